@@ -0,0 +1,33 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.repository.GameStatsRepository;
+import com.example.wordle.service.WordleService;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+// Outils communs aux benchmarks : un service branché sur un repository qui ne fait rien,
+// pour ne mesurer ni la BDD ni un framework de mock.
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static WordleService newService() {
+        return new WordleService(noopRepository());
+    }
+
+    static GameStatsRepository noopRepository() {
+        return (GameStatsRepository) Proxy.newProxyInstance(
+                GameStatsRepository.class.getClassLoader(),
+                new Class<?>[]{GameStatsRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> List.of();
+                    case "save" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "NoopGameStatsRepository";
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.WordleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Analyse d'un essai via WordleService.checkGuess, pour plusieurs profils de feedback
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckGuessBenchmark {
+
+    @Param({"repeatedLetters", "allHit", "allMiss", "allHitLong", "lowerCase"})
+    public String scenario;
+
+    private WordleService service;
+    private WordleGame game;
+    private String guess;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkSupport.newService();
+        // cible et essai de chaque scénario
+        String[] pair = switch (scenario) {
+            case "repeatedLetters" -> new String[]{"LEVEL", "LELLO"};
+            case "allHit" -> new String[]{"POMME", "POMME"};
+            case "allMiss" -> new String[]{"CHAUD", "BILLE"};
+            case "allHitLong" -> new String[]{"ANTICONSTITUTIONNELLEMENT", "ANTICONSTITUTIONNELLEMENT"};
+            case "lowerCase" -> new String[]{"CHAUD", "bille"}; // Essai saisi en minuscules
+            default -> throw new IllegalArgumentException("Scénario inconnu : " + scenario);
+        };
+        game = new WordleGame();
+        game.setTargetWord(pair[0]);
+        game.setWordLength(pair[0].length());
+        guess = pair[1];
+    }
+
+    @Benchmark
+    public String checkGuess() {
+        // La partie est remise à zéro pour que chaque appel mesure le même essai
+        game.setRemainingAttempts(Integer.MAX_VALUE);
+        game.getGuesses().clear();
+        return service.checkGuess(game, guess);
+    }
+}
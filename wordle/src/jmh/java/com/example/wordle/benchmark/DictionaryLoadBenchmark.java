@@ -0,0 +1,23 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.service.WordleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Coût de construction du service : chargement et indexation de listeMots.txt
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryLoadBenchmark {
+
+    @Benchmark
+    public int constructService() {
+        // Le service est fermé pour arrêter son thread d'écriture des statistiques
+        try (WordleService service = BenchmarkSupport.newService()) {
+            return service.getMaxWordLength();
+        }
+    }
+}
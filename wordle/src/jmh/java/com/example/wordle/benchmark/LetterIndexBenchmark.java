@@ -0,0 +1,40 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.LetterIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Recherche par motif dans l'index des lettres : nombre de résultats et première page
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LetterIndexBenchmark {
+
+    @Param({"5", "9"})
+    public int length;
+
+    private LetterIndex index;
+    private String pattern;
+
+    @Setup
+    public void setUp() {
+        index = new DictionaryRegistry().getDefault().letterIndex(length);
+        pattern = "A?" + "?".repeat(length - 3) + "E";
+    }
+
+    @Benchmark
+    public int count() {
+        return LetterIndex.count(index.match(pattern, "R", "SZ"));
+    }
+
+    @Benchmark
+    public List<String> page() {
+        return index.words(index.match(pattern, "R", "SZ"), 20, 20);
+    }
+}
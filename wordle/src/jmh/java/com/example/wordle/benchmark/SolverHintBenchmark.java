@@ -0,0 +1,54 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.FeedbackMatrixCache;
+import com.example.wordle.service.WordleService;
+import com.example.wordle.service.WordleSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Premier conseil du solveur (tous les mots de la longueur sont encore candidats),
+// avec ou sans matrice de feedbacks précalculée
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverHintBenchmark {
+
+    @Param({"5", "9"})
+    public int length;
+
+    @Param({"false", "true"})
+    public boolean matrix;
+
+    private WordleService service;
+    private WordleSolver solver;
+    private WordleGame game;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkSupport.newService();
+        FeedbackMatrixCache matrixCache = new FeedbackMatrixCache(
+                service::getDictionary, matrix ? 10 : 0, 1L << 30, null, ForkJoinPool.commonPool());
+        if (matrix) {
+            matrixCache.await(length);
+        }
+        solver = new WordleSolver(service, matrixCache, 500, 1500, ForkJoinPool.commonPool());
+        game = service.startNewGame(length, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public WordleSolver.Hint firstHint() {
+        game.setCandidates(null);
+        return solver.hint(game);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.WordleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Démarrage d'une partie pour chaque longueur de mot du dictionnaire
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StartNewGameBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13",
+            "14", "15", "16", "17", "18", "19", "20", "21", "22", "23", "24", "25", "26"})
+    public int length;
+
+    private WordleService service;
+
+    @Setup
+    public void setUp() {
+        service = BenchmarkSupport.newService();
+    }
+
+    @Benchmark
+    public WordleGame startNewGame() {
+        return service.startNewGame(length, 1);
+    }
+}
@@ -2,21 +2,50 @@ package com.example.wordle.application;
 
 import com.example.wordle.model.GameStats;
 import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.FileStatsStore;
 import com.example.wordle.service.WordleService;
-import org.springframework.boot.SpringApplication;
-import org.springframework.context.ConfigurableApplicationContext;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
+// Point d'entrée console. La partie se joue directement sur WordleService (dictionnaire intégré,
+// stats dans un petit fichier local), sans démarrer Spring, JPA ni H2.
+// Options :
+//   --stats-file=fichier   statistiques du mode console (par défaut ./wordle-data/cli-stats.properties)
+//   --server               démarre le serveur (WordleApplication) avec les autres arguments
 public class GameRunner {
 
+    private static final String DEFAULT_STATS_FILE = "./wordle-data/cli-stats.properties";
+
     public static void main(String[] args) {
-        // Lance le contexte Spring
-        ConfigurableApplicationContext context = SpringApplication.run(WordleApplication.class, args);
+        Path statsFile = Path.of(DEFAULT_STATS_FILE);
+        List<String> serverArgs = new ArrayList<>();
+        boolean server = false;
+        for (String arg : args) {
+            if (arg.equals("--server")) {
+                server = true;
+            } else if (arg.startsWith("--stats-file=")) {
+                statsFile = Path.of(arg.substring("--stats-file=".length()));
+            } else {
+                serverArgs.add(arg);
+            }
+        }
+        if (server) {
+            // Spring n'est chargé que pour le mode serveur
+            WordleApplication.main(serverArgs.toArray(new String[0]));
+            return;
+        }
 
-        // Récupère WordleService à partir du contexte Spring
-        WordleService wordleService = context.getBean(WordleService.class);
+        // Les statistiques en attente sont écrites dans le fichier à la fermeture du service
+        FileStatsStore statsStore = new FileStatsStore(statsFile);
+        try (WordleService wordleService = WordleService.builder(statsStore).build()) {
+            play(wordleService);
+        }
+    }
 
+    private static void play(WordleService wordleService) {
         try (Scanner scanner = new Scanner(System.in)) {
 
             // Récupère la longueur min et max du dictionnaire
@@ -63,10 +92,13 @@ public class GameRunner {
 
             // Initialiser la partie
             WordleGame game = wordleService.startNewGame(wordLength, modeChoice);
+            // Mode chrono : la partie se termine à l'échéance, même sans nouvel essai
+            wordleService.armExpiry(game);
 
             System.out.printf("Mode choisi : %s, longueur du mot : %d%n",
                     getModeName(modeChoice), wordLength);
 
+            boolean timeUpShown = false;
             while (!game.isGameOver()) {
                 System.out.printf("Essais restants: %d. Entrez un mot (%d lettres): ",
                         game.getRemainingAttempts(), wordLength);
@@ -86,6 +118,7 @@ public class GameRunner {
                 } catch (IllegalStateException e) {
                     // On gère ici l'exception "Temps écoulé !" 
                     if ("Temps écoulé !".equals(e.getMessage())) {
+                        timeUpShown = true;
                         System.out.println("Temps écoulé !");
                         // Afficher le mot
                         System.out.println("Le mot était : " + game.getTargetWord());
@@ -100,6 +133,13 @@ public class GameRunner {
                 }
             }
 
+            // Partie terminée par l'échéance pendant la saisie : même message qu'un essai hors délai
+            if (game.isGameOver() && !game.isWon() && game.getRemainingAttempts() > 0
+                    && wordleService.isTimeUp(game) && !timeUpShown) {
+                System.out.println("Temps écoulé !");
+                System.out.println("Le mot était : " + game.getTargetWord());
+            }
+
             // Afficher le score de la partie
             System.out.println("Score de cette partie : " + game.getScore());
 
@@ -113,9 +153,6 @@ public class GameRunner {
             System.out.printf("Score moyen       : %.2f%n", stats.getAverageScore());
             System.out.println("=== Fin de la partie ===");
         }
-
-        // Ferme proprement le contexte Spring
-        context.close();
     }
 
     private static String getModeName(int choice) {
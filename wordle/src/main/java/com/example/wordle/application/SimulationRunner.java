@@ -0,0 +1,73 @@
+package com.example.wordle.application;
+
+import com.example.wordle.model.GameScript;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.GameSimulator;
+import com.example.wordle.service.WordleService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Simulation de parties en masse, sans Spring ni base de données (stats en mémoire).
+// Options (--nom=valeur) :
+//   --scripts=fichier   scripts de parties à rejouer ("-" = entrée standard), sinon parties générées
+//   --games=1000000     nombre de parties générées
+//   --seed=42           graine de génération
+//   --length=5          longueur des mots générés
+//   --mode=1            mode des parties générées
+//   --threads=N         threads de simulation (par défaut : nombre de cœurs)
+public class SimulationRunner {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+
+        try (WordleService wordleService = WordleService.builder(new InMemoryStatsStore()).build()) {
+            GameSimulator simulator = new GameSimulator(wordleService, threads);
+            GameSimulator.Report report;
+
+            String scripts = options.get("scripts");
+            if (scripts != null) {
+                try (BufferedReader reader = scripts.equals("-")
+                        ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                        : Files.newBufferedReader(Path.of(scripts), StandardCharsets.UTF_8)
+                ) {
+                    report = simulator.run(GameSimulator.read(reader));
+                }
+            } else {
+                Iterator<GameScript> generated = simulator.generate(
+                        Long.parseLong(options.getOrDefault("seed", "42")),
+                        Long.parseLong(options.getOrDefault("games", "1000000")),
+                        Integer.parseInt(options.getOrDefault("length", "5")),
+                        Integer.parseInt(options.getOrDefault("mode", "1")));
+                report = simulator.run(generated);
+            }
+
+            System.out.printf("=== Simulation (%d threads) ===%n", threads);
+            System.out.print(report.format());
+            if (report.scoreMismatches() > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Option invalide : " + arg + " (attendu --nom=valeur)");
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.wordle.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+// Traduit les exceptions du service en réponses HTTP
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Saisie invalide (longueur, caractères, longueur de mot absente du dictionnaire)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    // Partie terminée ou temps écoulé
+    @ExceptionHandler(IllegalStateException.class)
+    public ProblemDetail conflict(IllegalStateException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    // Partie introuvable, serveur saturé...
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ProblemDetail> status(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .body(ProblemDetail.forStatusAndDetail(e.getStatusCode(), e.getReason()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.wordle.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+// Résultat d'un élément d'un lot : le statut HTTP qu'aurait eu la requête seule, et soit le
+// résultat, soit le message d'erreur (un élément en erreur n'interrompt pas le lot)
+public record BatchResult<T>(int status, T result, String error) {
+
+    static <T> BatchResult<T> ok(HttpStatus status, T result) {
+        return new BatchResult<>(status.value(), result, null);
+    }
+
+    static <T> BatchResult<T> failed(HttpStatusCode status, String error) {
+        return new BatchResult<>(status.value(), null, error);
+    }
+
+    // Même correspondance que ApiExceptionHandler ; les autres exceptions sont relancées
+    static <T> BatchResult<T> failed(RuntimeException e) {
+        if (e instanceof ResponseStatusException status) {
+            return failed(status.getStatusCode(), status.getReason());
+        }
+        if (e instanceof IllegalArgumentException) {
+            return failed(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (e instanceof IllegalStateException) {
+            return failed(HttpStatus.CONFLICT, e.getMessage());
+        }
+        throw e;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.Latin1;
+import com.example.wordle.service.LetterIndex;
+import com.example.wordle.service.WordDifficulty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// Dictionnaires disponibles pour les nouvelles parties
+@RestController
+@RequestMapping("/api/dictionaries")
+public class DictionaryController {
+
+    private static final int MAX_SEARCH_LIMIT = 1000;
+
+    private final DictionaryRegistry dictionaries;
+    private final WordDifficulty difficulty;
+
+    public DictionaryController(DictionaryRegistry dictionaries, WordDifficulty difficulty) {
+        this.dictionaries = dictionaries;
+        this.difficulty = difficulty;
+    }
+
+    public record DictionaryView(String name, boolean isDefault, int words, int extraGuesses,
+                                 int minLength, int maxLength) {
+    }
+
+    public record SearchView(String dictionary, int length, int total, int offset, List<String> words) {
+    }
+
+    @GetMapping
+    public List<DictionaryView> list() {
+        return dictionaries.names().stream().map(name -> {
+            DictionaryRegistry.Dictionary dictionary = dictionaries.get(name);
+            DictionaryIndex answers = dictionary.answers();
+            return new DictionaryView(name, name.equals(dictionaries.getDefaultName()), answers.size(),
+                    dictionary.allowedCount(), answers.getMinLength(), answers.getMaxLength());
+        }).toList();
+    }
+
+    // Parties jouées et taux de réussite d'un mot cible
+    @GetMapping("/{name}/words/{word}")
+    public WordDifficulty.WordStats word(@PathVariable String name, @PathVariable String word) {
+        WordDifficulty.WordStats stats = difficulty.stats(dictionaries.get(name), Latin1.toUpperCase(word));
+        if (stats == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Mot inconnu du dictionnaire : " + word);
+        }
+        return stats;
+    }
+
+    // Mots à deviner correspondant à un motif : /search?pattern=A_B__&contains=E&excludes=RS
+    // (? _ ou . = lettre quelconque ; sans motif, length donne la longueur)
+    @GetMapping("/{name}/search")
+    public SearchView search(@PathVariable String name,
+                             @RequestParam(required = false) String pattern,
+                             @RequestParam(required = false) Integer length,
+                             @RequestParam(required = false) String contains,
+                             @RequestParam(required = false) String excludes,
+                             @RequestParam(defaultValue = "0") int offset,
+                             @RequestParam(defaultValue = "50") int limit) {
+        boolean hasPattern = pattern != null && !pattern.isEmpty();
+        if (!hasPattern && length == null) {
+            throw new IllegalArgumentException("Motif ou longueur obligatoire.");
+        }
+        int wordLength = hasPattern ? pattern.length() : length;
+        if (length != null && length != wordLength) {
+            throw new IllegalArgumentException("Le motif doit faire " + length + " caractères.");
+        }
+        if (offset < 0 || limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException(
+                    "offset doit être positif et limit entre 1 et " + MAX_SEARCH_LIMIT + ".");
+        }
+        LetterIndex index = dictionaries.get(name).letterIndex(wordLength);
+        long[] matches = index.match(pattern, contains, excludes);
+        return new SearchView(name, wordLength, LetterIndex.count(matches), offset,
+                index.words(matches, offset, limit));
+    }
+}
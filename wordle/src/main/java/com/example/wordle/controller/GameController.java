@@ -0,0 +1,226 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.DailyWordScheduler;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.GameSessionStore;
+import com.example.wordle.service.GameStateCodec;
+import com.example.wordle.service.SessionRouter;
+import com.example.wordle.service.WordDifficulty;
+import com.example.wordle.service.WordleService;
+import com.example.wordle.service.WordleSolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// API REST du jeu : création d'une partie, envoi d'un essai, consultation de l'état
+@RestController
+@RequestMapping("/api/games")
+public class GameController {
+
+    private final WordleService wordleService;
+    private final GameSessionStore sessions;
+    private final WordleSolver solver;
+    private final DailyWordScheduler daily;
+    private final SessionRouter router;
+    private final int maxBatchItems;
+
+    public GameController(WordleService wordleService, GameSessionStore sessions, WordleSolver solver,
+                          DailyWordScheduler daily, SessionRouter router,
+                          @Value("${wordle.batch.max-items:1000}") int maxBatchItems) {
+        this.wordleService = wordleService;
+        this.sessions = sessions;
+        this.solver = solver;
+        this.daily = daily;
+        this.router = router;
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    public record NewGameRequest(Integer length, Integer mode, String playerId, Boolean strict, Boolean hard,
+                                 Boolean daily, String dictionary, String difficulty) {
+    }
+
+    public record GuessRequest(String guess) {
+    }
+
+    public record GuessResponse(String feedback, GameView game) {
+    }
+
+    public record BatchGuessRequest(String gameId, String guess) {
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public GameView create(@RequestBody(required = false) NewGameRequest request) {
+        return GameView.of(newGame(request));
+    }
+
+    // Plusieurs parties en une requête ; les résultats sont dans l'ordre des demandes
+    @PostMapping("/batch")
+    public List<BatchResult<GameView>> createBatch(@RequestBody List<NewGameRequest> requests) {
+        checkBatchSize(requests.size());
+        List<BatchResult<GameView>> results = new ArrayList<>(requests.size());
+        for (NewGameRequest request : requests) {
+            try {
+                results.add(BatchResult.ok(HttpStatus.CREATED, GameView.of(newGame(request))));
+            } catch (RuntimeException e) {
+                results.add(BatchResult.failed(e));
+            }
+        }
+        return results;
+    }
+
+    private WordleGame newGame(NewGameRequest request) {
+        int length = request != null && request.length() != null ? request.length() : 5;
+        int mode = request != null && request.mode() != null ? request.mode() : 1;
+
+        boolean strict = request != null && Boolean.TRUE.equals(request.strict());
+        String playerId = request != null ? request.playerId() : null;
+        // L'identifiant doit tenir dans l'enregistrement compact de la partie
+        if (playerId != null && playerId.getBytes(StandardCharsets.UTF_8).length > GameStateCodec.MAX_PLAYER_ID_BYTES) {
+            throw new IllegalArgumentException(
+                    "Identifiant de joueur trop long (" + GameStateCodec.MAX_PLAYER_ID_BYTES + " octets max).");
+        }
+
+        String dictionary = request != null ? request.dictionary() : null;
+        boolean isDaily = request != null && Boolean.TRUE.equals(request.daily());
+        if (isDaily && dictionary != null && !dictionary.equals(wordleService.getDictionaries().getDefaultName())) {
+            throw new IllegalArgumentException("Le mot du jour n'existe que pour le dictionnaire par défaut.");
+        }
+        WordDifficulty.Tier tier = request != null ? tierOf(request.difficulty()) : null;
+        if (isDaily && tier != null) {
+            throw new IllegalArgumentException("Le mot du jour ne dépend pas de la difficulté.");
+        }
+
+        // Mot du jour (identique pour tous les joueurs) ou mot tiré au hasard
+        WordleGame game = isDaily
+                ? daily.startDailyGame(length, mode, strict)
+                : wordleService.startNewGame(dictionary, length, mode, strict, tier);
+        if (request != null && Boolean.TRUE.equals(request.hard())) {
+            wordleService.enableHardMode(game);
+        }
+        game.setPlayerId(playerId);
+        // Identifiant choisi pour que la partie soit servie par ce nœud
+        game.setId(router.newLocalId());
+        if (!sessions.add(game)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Trop de parties en cours.");
+        }
+        // Mode chrono : échéance programmée seulement une fois la partie enregistrée ; elle termine
+        // la version enregistrée (une copie hors du tas selon le backend)
+        String id = game.getId();
+        wordleService.scheduleExpiry(game, () -> sessions.update(id, wordleService::expire));
+        return game;
+    }
+
+    @GetMapping("/{id}")
+    public GameView get(@PathVariable String id) {
+        return withGame(id, GameView::of);
+    }
+
+    @PostMapping("/{id}/guesses")
+    public GuessResponse guess(@PathVariable String id, @RequestBody GuessRequest request) {
+        return withGame(id, game -> play(game, request.guess(), null));
+    }
+
+    // Essais de plusieurs parties (ou plusieurs essais d'une même partie, joués dans l'ordre) en une
+    // requête. Les essais d'une même partie sont joués ensemble, sous un seul accès au store et avec
+    // le dictionnaire résolu une fois. Les résultats sont dans l'ordre des demandes.
+    @PostMapping("/batch/guesses")
+    public List<BatchResult<GuessResponse>> guessBatch(@RequestBody List<BatchGuessRequest> requests) {
+        checkBatchSize(requests.size());
+        @SuppressWarnings("unchecked")
+        BatchResult<GuessResponse>[] results = new BatchResult[requests.size()];
+        Map<String, List<Integer>> byGame = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String id = requests.get(i) != null ? requests.get(i).gameId() : null;
+            if (id == null || id.isBlank()) {
+                results[i] = BatchResult.failed(HttpStatus.BAD_REQUEST, "Identifiant de partie obligatoire.");
+            } else {
+                byGame.computeIfAbsent(id, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<String, List<Integer>> entry : byGame.entrySet()) {
+            String id = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            // Partie d'un autre nœud (421) : le client doit lui envoyer ces essais
+            if (!router.isLocal(id)) {
+                BatchResult<GuessResponse> misdirected = BatchResult.failed(HttpStatusCode.valueOf(421),
+                        "Partie servie par " + router.owner(id));
+                indexes.forEach(i -> results[i] = misdirected);
+                continue;
+            }
+            boolean found = sessions.update(id, game -> {
+                DictionaryRegistry.Dictionary dictionary =
+                        game.isStrictDictionary() ? wordleService.getDictionary(game) : null;
+                for (int i : indexes) {
+                    try {
+                        results[i] = BatchResult.ok(HttpStatus.OK, play(game, requests.get(i).guess(), dictionary));
+                    } catch (RuntimeException e) {
+                        results[i] = BatchResult.failed(e);
+                    }
+                }
+                return true;
+            }).isPresent();
+            if (!found) {
+                BatchResult<GuessResponse> missing = BatchResult.failed(HttpStatus.NOT_FOUND,
+                        "Partie introuvable : " + id);
+                indexes.forEach(i -> results[i] = missing);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private GuessResponse play(WordleGame game, String guess, DictionaryRegistry.Dictionary dictionary) {
+        if (game.isGameOver()) {
+            throw new IllegalStateException("La partie est terminée.");
+        }
+        String feedback = wordleService.checkGuess(game, guess == null ? "" : guess.trim(), dictionary);
+        return new GuessResponse(feedback, GameView.of(game));
+    }
+
+    // Meilleur prochain essai selon le solveur
+    @GetMapping("/{id}/hint")
+    public WordleSolver.Hint hint(@PathVariable String id) {
+        return withGame(id, game -> {
+            if (game.isGameOver()) {
+                throw new IllegalStateException("La partie est terminée.");
+            }
+            return solver.hint(game);
+        });
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchItems) {
+            throw new IllegalArgumentException("Lot trop grand (" + maxBatchItems + " éléments max).");
+        }
+    }
+
+    private static WordDifficulty.Tier tierOf(String difficulty) {
+        if (difficulty == null) {
+            return null;
+        }
+        try {
+            return WordDifficulty.Tier.valueOf(difficulty.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Difficulté inconnue : " + difficulty + " (easy, medium ou hard).");
+        }
+    }
+
+    // Une partie n'est pas thread-safe : les accès à une même partie sont sérialisés par le store
+    private <T> T withGame(String id, Function<WordleGame, T> action) {
+        return sessions.update(id, action)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Partie introuvable : " + id));
+    }
+}
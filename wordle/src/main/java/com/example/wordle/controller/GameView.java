@@ -0,0 +1,41 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.model.WordleGame;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// État d'une partie tel que renvoyé par l'API (le mot n'est révélé qu'en fin de partie)
+public record GameView(String id,
+                       String playerId,
+                       int wordLength,
+                       int mode,
+                       boolean strictDictionary,
+                       boolean hardMode,
+                       LocalDate dailyDate,
+                       String dictionary,
+                       int remainingAttempts,
+                       List<String> guesses,
+                       boolean gameOver,
+                       boolean won,
+                       int score,
+                       String targetWord) {
+
+    public static GameView of(WordleGame game) {
+        return new GameView(
+                game.getId(),
+                game.getPlayerId(),
+                game.getWordLength(),
+                game.getMode(),
+                game.isStrictDictionary(),
+                game.isHardMode(),
+                game.getDailyDate(),
+                game.getDictionaryName(),
+                game.getRemainingAttempts(),
+                List.copyOf(game.getGuesses()),
+                game.isGameOver(),
+                game.isWon(),
+                game.getScore(),
+                game.isGameOver() ? game.getTargetWord() : null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.service.FeedbackEngine;
+import com.example.wordle.service.RaceRooms;
+import com.example.wordle.service.SessionRouter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// Courses : création d'une salle, arrivée d'un joueur, essais. La progression des joueurs est
+// diffusée sur /ws/races/{id} (voir RaceSocketHandler).
+@RestController
+@RequestMapping("/api/races")
+public class RaceController {
+
+    private final RaceRooms races;
+    private final SessionRouter router;
+
+    public RaceController(RaceRooms races, SessionRouter router) {
+        this.races = races;
+        this.router = router;
+    }
+
+    public record NewRaceRequest(Integer length, Boolean strict, String dictionary) {
+    }
+
+    public record JoinRequest(String playerId) {
+    }
+
+    public record RaceGuessRequest(String playerId, String guess) {
+    }
+
+    public record RaceView(String id, int wordLength, boolean strictDictionary, String dictionary,
+                           int subscribers, List<RaceRooms.Progress> players) {
+
+        static RaceView of(RaceRooms.Room room) {
+            return new RaceView(room.getId(), room.getWordLength(), room.isStrictDictionary(),
+                    room.getDictionaryName(), room.getSubscriberCount(), room.progress());
+        }
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public RaceView create(@RequestBody(required = false) NewRaceRequest request) {
+        int length = request != null && request.length() != null ? request.length() : 5;
+        boolean strict = request != null && Boolean.TRUE.equals(request.strict());
+        String dictionary = request != null ? request.dictionary() : null;
+        // Identifiant choisi pour que la course soit servie par ce nœud
+        return RaceView.of(races.create(router.newLocalId(), dictionary, length, strict));
+    }
+
+    @GetMapping("/{id}")
+    public RaceView get(@PathVariable String id) {
+        return RaceView.of(room(id));
+    }
+
+    @PostMapping("/{id}/players")
+    @ResponseStatus(HttpStatus.CREATED)
+    public GameView join(@PathVariable String id, @RequestBody JoinRequest request) {
+        return GameView.of(races.join(room(id).getId(), request.playerId()));
+    }
+
+    @PostMapping("/{id}/guesses")
+    public GameController.GuessResponse guess(@PathVariable String id, @RequestBody RaceGuessRequest request) {
+        String guess = request.guess() == null ? "" : request.guess().trim();
+        return races.guess(room(id).getId(), request.playerId(), guess, (game, pattern) ->
+                new GameController.GuessResponse(FeedbackEngine.render(pattern, game.getWordLength()),
+                        GameView.of(game)));
+    }
+
+    private RaceRooms.Room room(String id) {
+        return races.get(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Course introuvable : " + id));
+    }
+}
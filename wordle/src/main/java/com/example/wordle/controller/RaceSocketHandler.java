@@ -0,0 +1,69 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.service.RaceRooms;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+
+// Abonnement WebSocket à une course : /ws/races/{id}. Le client reçoit l'état de la salle puis des
+// messages groupés {"room": ..., "progress": [...]} ; les messages qu'il envoie sont ignorés.
+// La connexion doit être ouverte sur le nœud qui sert la course.
+@Component
+@EnableWebSocket
+public class RaceSocketHandler extends TextWebSocketHandler implements WebSocketConfigurer {
+
+    private static final String CONNECTION = "raceConnection";
+    private static final CloseStatus UNKNOWN_RACE = new CloseStatus(4404, "Course introuvable");
+
+    private final RaceRooms races;
+
+    public RaceSocketHandler(RaceRooms races) {
+        this.races = races;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(this, "/ws/races/*");
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        String path = session.getUri() != null ? session.getUri().getPath() : "";
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        RaceRooms.Connection connection = races.subscribe(id, new RaceRooms.Subscriber() {
+            @Override
+            public void send(String message) throws IOException {
+                session.sendMessage(new TextMessage(message));
+            }
+
+            @Override
+            public void close() {
+                try {
+                    session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException e) {
+                    // Connexion déjà perdue
+                }
+            }
+        });
+        if (connection == null) {
+            session.close(UNKNOWN_RACE);
+            return;
+        }
+        session.getAttributes().put(CONNECTION, connection);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object connection = session.getAttributes().remove(CONNECTION);
+        if (connection instanceof RaceRooms.Connection c) {
+            c.close();
+        }
+    }
+}
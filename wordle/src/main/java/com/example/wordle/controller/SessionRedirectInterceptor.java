@@ -0,0 +1,48 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.service.SessionRouter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+// Les requêtes sur une partie (ou une course) servie par un autre nœud sont redirigées vers ce nœud (307 :
+// la méthode et le corps de la requête sont conservés)
+@Component
+public class SessionRedirectInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+
+    private final SessionRouter router;
+
+    public SessionRedirectInterceptor(SessionRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this)
+                .addPathPatterns("/api/games/*", "/api/games/*/**", "/api/races/*", "/api/races/*/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables != null ? variables.get("id") : null;
+        if (id == null || router.isLocal(id)) {
+            return true;
+        }
+        String query = request.getQueryString();
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION,
+                router.owner(id) + request.getRequestURI() + (query != null ? "?" + query : ""));
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.wordle.controller;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.service.LeaderboardService;
+import com.example.wordle.service.WordleService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// Statistiques globales, par joueur, et classements
+@RestController
+@RequestMapping("/api")
+public class StatsController {
+
+    private final WordleService wordleService;
+    private final LeaderboardService leaderboardService;
+
+    public StatsController(WordleService wordleService, LeaderboardService leaderboardService) {
+        this.wordleService = wordleService;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping("/stats")
+    public GameStats globalStats() {
+        return wordleService.getStats();
+    }
+
+    @GetMapping("/players/{playerId}/stats")
+    public PlayerStats playerStats(@PathVariable String playerId) {
+        return leaderboardService.playerStats(playerId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur inconnu : " + playerId));
+    }
+
+    @GetMapping("/players/{playerId}/games")
+    public List<GameRecord> history(@PathVariable String playerId,
+                                    @RequestParam(defaultValue = "1") int mode,
+                                    @RequestParam(defaultValue = "5") int length,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        return leaderboardService.history(playerId, mode, length, limit);
+    }
+
+    @GetMapping("/leaderboard/score")
+    public List<PlayerStats> topByScore(@RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.topByScore(limit);
+    }
+
+    @GetMapping("/leaderboard/streak")
+    public List<PlayerStats> topByStreak(@RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.topByStreak(limit);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.wordle.model;
+
+import java.util.BitSet;
+
+// Mots encore possibles pour une partie : un bit par mot du bucket de la longueur de la partie.
+// Le bucket est gardé avec l'ensemble : si le dictionnaire est rechargé, les bits ne désignent
+// plus les mêmes mots et l'ensemble est recalculé sur le nouveau bucket.
+// appliedGuesses indique combien d'essais de la partie ont déjà servi à filtrer l'ensemble.
+public class CandidateSet {
+
+    private final byte[] bucket;
+    private final BitSet words;
+    private int appliedGuesses;
+
+    public CandidateSet(byte[] bucket, int length) {
+        int wordCount = bucket.length / length;
+        this.bucket = bucket;
+        this.words = new BitSet(wordCount);
+        this.words.set(0, wordCount);
+    }
+
+    public byte[] getBucket() {
+        return bucket;
+    }
+
+    public BitSet getWords() {
+        return words;
+    }
+
+    public int size() {
+        return words.cardinality();
+    }
+
+    public int getAppliedGuesses() {
+        return appliedGuesses;
+    }
+
+    public void setAppliedGuesses(int appliedGuesses) {
+        this.appliedGuesses = appliedGuesses;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.wordle.model;
+
+// Événement du journal des parties (voir GameEventLog).
+// GUESS : word = essai, pattern = feedback encodé (FeedbackEngine), attempt = numéro de l'essai.
+// FINISHED : word = mot cible, attempt = nombre d'essais joués, won et score en fin de partie.
+// gameId, playerId et dictionary valent null quand la partie n'en a pas.
+public record GameEvent(Type type, long timeMillis, String gameId, String playerId, String dictionary,
+                        int mode, String word, long pattern, int attempt, boolean won, int score) {
+
+    public enum Type {
+        GUESS, FINISHED
+    }
+
+    public static GameEvent guess(WordleGame game, String guess, long pattern, long timeMillis) {
+        return new GameEvent(Type.GUESS, timeMillis, game.getId(), game.getPlayerId(), game.getDictionaryName(),
+                game.getMode(), guess, pattern, game.getGuesses().size(), false, 0);
+    }
+
+    public static GameEvent finished(WordleGame game, long timeMillis) {
+        return new GameEvent(Type.FINISHED, timeMillis, game.getId(), game.getPlayerId(), game.getDictionaryName(),
+                game.getMode(), game.getTargetWord(), 0, game.getGuesses().size(), game.isWon(), game.getScore());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.wordle.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Historique : une ligne par partie terminée
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "game_record", indexes = {
+        @Index(name = "idx_game_record_player_mode_length", columnList = "playerId, mode, wordLength, finishedAt")
+})
+public class GameRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_record_seq")
+    @SequenceGenerator(name = "game_record_seq", sequenceName = "game_record_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String playerId;
+
+    private int mode;
+    private int wordLength;
+    private boolean won;
+    private int attempts;
+    private int score;
+    private Instant finishedAt;
+
+    public GameRecord(String playerId, WordleGame game) {
+        this.playerId = playerId;
+        this.mode = game.getMode();
+        this.wordLength = game.getWordLength();
+        this.won = game.isWon();
+        this.attempts = game.getGuesses().size();
+        this.score = game.getScore();
+        this.finishedAt = Instant.now();
+    }
+}
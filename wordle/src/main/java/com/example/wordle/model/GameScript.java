@@ -0,0 +1,31 @@
+package com.example.wordle.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Script d'une partie simulée : mot cible, mode, essais joués dans l'ordre,
+// et éventuellement le score attendu (null = pas de vérification)
+public record GameScript(String targetWord, int mode, List<String> guesses, Integer expectedScore) {
+
+    // Format d'une ligne : CIBLE;mode;ESSAI1,ESSAI2,...[;score attendu]
+    public static GameScript parse(String line) {
+        String[] fields = line.trim().split(";");
+        if (fields.length < 3 || fields.length > 4) {
+            throw new IllegalArgumentException("Script de partie invalide : " + line);
+        }
+        try {
+            List<String> guesses = fields[2].isBlank()
+                    ? List.of()
+                    : Arrays.stream(fields[2].split(",")).map(String::trim).toList();
+            Integer expected = fields.length == 4 ? Integer.valueOf(fields[3].trim()) : null;
+            return new GameScript(fields[0].trim().toUpperCase(), Integer.parseInt(fields[1].trim()), guesses, expected);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Script de partie invalide : " + line, e);
+        }
+    }
+
+    public String format() {
+        return targetWord + ";" + mode + ";" + String.join(",", guesses)
+                + (expectedScore != null ? ";" + expectedScore : "");
+    }
+}
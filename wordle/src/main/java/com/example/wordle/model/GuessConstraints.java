@@ -0,0 +1,123 @@
+package com.example.wordle.model;
+
+import java.util.Arrays;
+
+// Contraintes du mode difficile, mises à jour à chaque essai : lettre imposée par position
+// ([X] déjà révélés), nombre minimal de chaque lettre ([X] et [O] d'un même essai) et lettres
+// absentes du mot ([_] sans [X] ni [O] pour la même lettre). Valider un essai ne demande qu'un
+// passage sur ses lettres et deux masques de 64 bits, quel que soit le nombre d'essais déjà joués.
+// Les lettres suivies sont celles d'un mot en majuscules Latin-1 : A-Z, À-ß et ÿ (59 bits).
+public class GuessConstraints {
+
+    private static final int LETTERS = 59;
+    // Chiffres du feedback encodé en base 3 (voir FeedbackEngine)
+    private static final int PRESENT = 1;
+    private static final int HIT = 2;
+
+    // Tableau de comptage réutilisé par thread, pour ne rien allouer à chaque essai
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[LETTERS]);
+
+    private final byte[] fixed; // Lettre imposée à chaque position (ISO-8859-1, 0 = libre)
+    private final byte[] minCounts = new byte[LETTERS];
+    private long required; // Lettres dont minCounts > 0, un bit par lettre
+    private long excluded; // Lettres absentes du mot, un bit par lettre
+
+    public GuessConstraints(int length) {
+        this.fixed = new byte[length];
+    }
+
+    // Message expliquant pourquoi l'essai (en majuscules) ne respecte pas les indices révélés,
+    // ou null s'il est valide
+    public String violation(CharSequence guess) {
+        int[] counts = COUNTS.get();
+        Arrays.fill(counts, 0);
+        long letters = 0;
+        for (int p = 0; p < fixed.length; p++) {
+            char ch = guess.charAt(p);
+            char imposed = (char) (fixed[p] & 0xFF);
+            if (imposed != 0 && imposed != ch) {
+                return "La lettre " + imposed + " doit être en position " + (p + 1) + ".";
+            }
+            int c = index(ch);
+            if (c >= 0) {
+                counts[c]++;
+                letters |= 1L << c;
+            }
+        }
+        long absent = letters & excluded;
+        if (absent != 0) {
+            return "La lettre " + letter(Long.numberOfTrailingZeros(absent)) + " n'est pas dans le mot.";
+        }
+        for (long bits = required; bits != 0; bits &= bits - 1) {
+            int c = Long.numberOfTrailingZeros(bits);
+            if (counts[c] < minCounts[c]) {
+                return minCounts[c] == 1
+                        ? "Le mot doit contenir la lettre " + letter(c) + "."
+                        : "Le mot doit contenir " + minCounts[c] + " fois la lettre " + letter(c) + ".";
+            }
+        }
+        return null;
+    }
+
+    // Ajoute les indices révélés par un essai et son feedback encodé
+    public void apply(CharSequence guess, long pattern) {
+        int[] revealed = COUNTS.get();
+        Arrays.fill(revealed, 0);
+        long missed = 0;
+        for (int p = 0; p < fixed.length; p++) {
+            int digit = (int) (pattern % 3);
+            pattern /= 3;
+            char ch = guess.charAt(p);
+            int c = index(ch);
+            if (c < 0) {
+                continue;
+            }
+            if (digit == HIT) {
+                fixed[p] = (byte) ch;
+            }
+            if (digit == HIT || digit == PRESENT) {
+                revealed[c]++;
+            } else {
+                missed |= 1L << c;
+            }
+        }
+        for (int c = 0; c < LETTERS; c++) {
+            if (revealed[c] > minCounts[c]) {
+                minCounts[c] = (byte) revealed[c];
+                required |= 1L << c;
+            } else if (revealed[c] == 0 && (missed & (1L << c)) != 0 && minCounts[c] == 0) {
+                excluded |= 1L << c;
+            }
+        }
+    }
+
+    // Numéro de la lettre (0-25 : A-Z, 26-57 : À-ß, 58 : ÿ), -1 pour un autre caractère
+    private static int index(char ch) {
+        if (ch >= 'A' && ch <= 'Z') {
+            return ch - 'A';
+        }
+        if (ch >= '\u00C0' && ch <= '\u00DF') {
+            return 26 + ch - '\u00C0';
+        }
+        return ch == '\u00FF' ? 58 : -1;
+    }
+
+    private static char letter(int index) {
+        return index < 26 ? (char) ('A' + index) : index < 58 ? (char) ('\u00C0' + index - 26) : '\u00FF';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GuessConstraints other
+                && required == other.required
+                && excluded == other.excluded
+                && Arrays.equals(fixed, other.fixed)
+                && Arrays.equals(minCounts, other.minCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(fixed) + Arrays.hashCode(minCounts))
+                + Long.hashCode(required) * 31 + Long.hashCode(excluded);
+    }
+}
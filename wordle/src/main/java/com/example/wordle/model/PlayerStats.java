@@ -0,0 +1,51 @@
+package com.example.wordle.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "player_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_player_stats_player", columnNames = "playerId"),
+        indexes = {
+                @Index(name = "idx_player_stats_score", columnList = "totalScore"),
+                @Index(name = "idx_player_stats_best_streak", columnList = "bestStreak")
+        })
+public class PlayerStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String playerId;
+
+    private int totalGames = 0;
+    private int wins = 0;
+    private int currentStreak = 0;
+    private int bestStreak = 0;
+    private long totalAttempts = 0;
+    private long totalScore = 0;
+
+    // Applique les parties accumulées depuis la dernière écriture
+    public void apply(PlayerStatsDelta delta) {
+        bestStreak = Math.max(Math.max(bestStreak, delta.getBestRun()), currentStreak + delta.getLeadingWins());
+        currentStreak = delta.isHadLoss() ? delta.getTrailingWins() : currentStreak + delta.getTrailingWins();
+        totalGames += delta.getGames();
+        wins += delta.getWins();
+        totalAttempts += delta.getAttempts();
+        totalScore += delta.getScore();
+    }
+
+    // Calcule la moyenne de tentatives par partie.
+    public double getAverageAttempts() {
+        if (totalGames == 0) return 0.0;
+        return (double) totalAttempts / totalGames;
+    }
+
+    // Calcule la moyenne de score par partie.
+    public double getAverageScore() {
+        if (totalGames == 0) return 0.0;
+        return (double) totalScore / totalGames;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.wordle.model;
+
+// Parties d'un joueur pas encore persistées. Les séries sont résumées par la série de
+// victoires en tête (avant la première défaite), en queue (après la dernière défaite)
+// et la meilleure série interne, ce qui permet de fusionner deux deltas successifs.
+public class PlayerStatsDelta {
+
+    private final String playerId;
+    private int games;
+    private int wins;
+    private long attempts;
+    private long score;
+    private boolean hadLoss;
+    private int leadingWins;
+    private int trailingWins;
+    private int bestRun;
+
+    public PlayerStatsDelta(String playerId) {
+        this.playerId = playerId;
+    }
+
+    // Ajoute une partie terminée
+    public void record(WordleGame game) {
+        games++;
+        attempts += game.getGuesses().size();
+        score += game.getScore();
+        if (game.isWon()) {
+            wins++;
+            trailingWins++;
+            if (!hadLoss) {
+                leadingWins++;
+            }
+            bestRun = Math.max(bestRun, trailingWins);
+        } else {
+            hadLoss = true;
+            trailingWins = 0;
+        }
+    }
+
+    // Ajoute les parties d'un delta plus récent
+    public void append(PlayerStatsDelta later) {
+        bestRun = Math.max(Math.max(bestRun, later.bestRun), trailingWins + later.leadingWins);
+        if (!hadLoss) {
+            leadingWins += later.leadingWins;
+        }
+        trailingWins = later.hadLoss ? later.trailingWins : trailingWins + later.trailingWins;
+        hadLoss |= later.hadLoss;
+        games += later.games;
+        wins += later.wins;
+        attempts += later.attempts;
+        score += later.score;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public boolean isHadLoss() {
+        return hadLoss;
+    }
+
+    public int getLeadingWins() {
+        return leadingWins;
+    }
+
+    public int getTrailingWins() {
+        return trailingWins;
+    }
+
+    public int getBestRun() {
+        return bestRun;
+    }
+}
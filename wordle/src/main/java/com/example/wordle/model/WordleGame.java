@@ -1,13 +1,19 @@
 package com.example.wordle.model;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Data
 public class WordleGame {
 
+    private String id; // Identifiant de session (parties servies par l'API REST)
+    private String playerId; // Joueur (null = joueur local)
     private String targetWord;
     private int remainingAttempts = 6;
     private boolean isGameOver = false;
@@ -17,18 +23,37 @@ public class WordleGame {
     private int score = 0;
     private int mode = 1; // Mode de jeu (1=standard, 2=chronométré, 3=pratique, etc.) 
     private int timeLimitSeconds = 0; // Limite de temps en secondes
-    private long startTimeMillis = System.currentTimeMillis();
+    private boolean strictDictionary = false; // Les essais doivent être des mots du dictionnaire
+    private long startNanos = System.nanoTime(); // Début de partie, horloge monotone (voir ExpiryWheel.nanoTime)
+    private LocalDate dailyDate; // Jour du mot du jour joué (null = mot tiré au hasard)
+    private String dictionaryName; // Dictionnaire de la partie (null = dictionnaire par défaut)
+    private GuessConstraints constraints; // Mode difficile : indices à réutiliser (null = mode normal)
 
-    //Indique si le temps est écoulé (mode chrono)
-    public boolean isTimeUp() {
+    // Mots encore possibles, calculés à la demande par le solveur
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient CandidateSet candidates;
+
+    // Annule l'expiration programmée de la partie (mode chrono), null s'il n'y en a pas
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Runnable cancelExpiry;
+
+    // Mode difficile : chaque essai doit réutiliser les indices déjà révélés
+    public boolean isHardMode() {
+        return constraints != null;
+    }
+
+    //Indique si le temps est écoulé (mode chrono) ; nowNanos vient de la même horloge que startNanos
+    public boolean isTimeUp(long nowNanos) {
         if (timeLimitSeconds <= 0) {
             return false; 
         }
-        return getElapsedTimeSeconds() >= timeLimitSeconds;
+        return getElapsedTimeSeconds(nowNanos) >= timeLimitSeconds;
     }
 
     //Renvoie le temps écoulé depuis le début de la partie (en secondes)
-    public long getElapsedTimeSeconds() {
-        return (System.currentTimeMillis() - startTimeMillis) / 1000;
+    public long getElapsedTimeSeconds(long nowNanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nowNanos - startNanos);
     }
 }
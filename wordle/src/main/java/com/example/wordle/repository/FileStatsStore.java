@@ -0,0 +1,85 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.GameStats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+// Statistiques globales dans un petit fichier local (mode console, sans Spring ni base de données) :
+// un fichier de propriétés avec les champs de GameStats, réécrit en entier à chaque sauvegarde
+// (fichier temporaire puis remplacement). Les stats par joueur et l'historique ne sont pas conservés.
+public class FileStatsStore implements StatsStore {
+
+    private final Path file;
+
+    public FileStatsStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public GameStats loadGlobal() {
+        GameStats stats = new GameStats();
+        stats.setId(1L);
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException e) {
+            return stats;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture impossible des statistiques " + file, e);
+        }
+        try {
+            stats.setTotalGames(read(properties, "totalGames"));
+            stats.setWins(read(properties, "wins"));
+            stats.setCurrentStreak(read(properties, "currentStreak"));
+            stats.setBestStreak(read(properties, "bestStreak"));
+            stats.setTotalAttempts(read(properties, "totalAttempts"));
+            stats.setTotalScore(read(properties, "totalScore"));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Fichier de statistiques invalide : " + file, e);
+        }
+        return stats;
+    }
+
+    @Override
+    public GameStats saveGlobal(GameStats stats) {
+        if (stats.getId() == null) {
+            stats.setId(1L);
+        }
+        Properties properties = new Properties();
+        properties.setProperty("totalGames", Integer.toString(stats.getTotalGames()));
+        properties.setProperty("wins", Integer.toString(stats.getWins()));
+        properties.setProperty("currentStreak", Integer.toString(stats.getCurrentStreak()));
+        properties.setProperty("bestStreak", Integer.toString(stats.getBestStreak()));
+        properties.setProperty("totalAttempts", Integer.toString(stats.getTotalAttempts()));
+        properties.setProperty("totalScore", Integer.toString(stats.getTotalScore()));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, "stats", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Statistiques Wordle");
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture impossible des statistiques " + file, e);
+        }
+        return stats;
+    }
+
+    private static int read(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        return value == null ? 0 : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.GameRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GameRecordRepository extends JpaRepository<GameRecord, Long> {
+
+    // Historique d'un joueur pour un mode et une longueur, le plus récent d'abord
+    List<GameRecord> findByPlayerIdAndModeAndWordLengthOrderByFinishedAtDesc(
+            String playerId, int mode, int wordLength, Pageable pageable);
+}
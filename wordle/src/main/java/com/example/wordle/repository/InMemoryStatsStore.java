@@ -0,0 +1,69 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.model.PlayerStatsDelta;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Stockage des statistiques en mémoire, sans base de données (simulations, tests).
+// L'historique des parties n'est pas conservé, seul le nombre de parties reçues est compté.
+public class InMemoryStatsStore implements StatsStore {
+
+    private volatile GameStats global;
+    private final Map<String, PlayerStats> players = new ConcurrentHashMap<>();
+    private final AtomicLong savedRecords = new AtomicLong();
+
+    @Override
+    public GameStats loadGlobal() {
+        GameStats stats = global;
+        if (stats == null) {
+            stats = new GameStats();
+            stats.setId(1L);
+            global = stats;
+        }
+        return stats;
+    }
+
+    @Override
+    public GameStats saveGlobal(GameStats stats) {
+        if (stats.getId() == null) {
+            stats.setId(1L);
+        }
+        global = stats;
+        return stats;
+    }
+
+    @Override
+    public void savePlayerDeltas(Collection<PlayerStatsDelta> deltas) {
+        for (PlayerStatsDelta delta : deltas) {
+            players.compute(delta.getPlayerId(), (id, player) -> {
+                if (player == null) {
+                    player = new PlayerStats();
+                    player.setPlayerId(id);
+                }
+                player.apply(delta);
+                return player;
+            });
+        }
+    }
+
+    @Override
+    public void saveGameRecords(Collection<GameRecord> records) {
+        savedRecords.addAndGet(records.size());
+    }
+
+    public Optional<PlayerStats> findPlayer(String playerId) {
+        return Optional.ofNullable(players.get(playerId));
+    }
+
+    // Nombre de parties reçues pour l'historique
+    public long getSavedRecords() {
+        return savedRecords.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.model.PlayerStatsDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Stockage des statistiques en base via JPA
+@Component
+public class JpaStatsStore implements StatsStore {
+
+    private final GameStatsRepository statsRepository;
+    private final PlayerStatsRepository playerStatsRepository; // null : pas de stats par joueur
+    private final GameRecordRepository gameRecordRepository; // null : pas d'historique
+
+    public JpaStatsStore(GameStatsRepository statsRepository) {
+        this(statsRepository, null, null);
+    }
+
+    @Autowired
+    public JpaStatsStore(GameStatsRepository statsRepository,
+                         PlayerStatsRepository playerStatsRepository,
+                         GameRecordRepository gameRecordRepository) {
+        this.statsRepository = statsRepository;
+        this.playerStatsRepository = playerStatsRepository;
+        this.gameRecordRepository = gameRecordRepository;
+    }
+
+    @Override
+    public GameStats loadGlobal() {
+        return statsRepository.findAll().stream().findFirst()
+                .orElseGet(() -> saveGlobal(new GameStats()));
+    }
+
+    @Override
+    public GameStats saveGlobal(GameStats stats) {
+        GameStats saved = statsRepository.save(stats);
+        return saved != null ? saved : stats;
+    }
+
+    // Une requête pour charger les joueurs du lot, une écriture groupée pour les mettre à jour
+    @Override
+    @Transactional
+    public void savePlayerDeltas(Collection<PlayerStatsDelta> deltas) {
+        if (playerStatsRepository == null || deltas.isEmpty()) {
+            return;
+        }
+        List<String> ids = deltas.stream().map(PlayerStatsDelta::getPlayerId).toList();
+        Map<String, PlayerStats> existing = playerStatsRepository.findByPlayerIdIn(ids).stream()
+                .collect(Collectors.toMap(PlayerStats::getPlayerId, Function.identity()));
+
+        List<PlayerStats> toSave = new ArrayList<>(deltas.size());
+        for (PlayerStatsDelta delta : deltas) {
+            PlayerStats player = existing.get(delta.getPlayerId());
+            if (player == null) {
+                player = new PlayerStats();
+                player.setPlayerId(delta.getPlayerId());
+            }
+            player.apply(delta);
+            toSave.add(player);
+        }
+        playerStatsRepository.saveAll(toSave);
+    }
+
+    @Override
+    @Transactional
+    public void saveGameRecords(Collection<GameRecord> records) {
+        if (gameRecordRepository == null || records.isEmpty()) {
+            return;
+        }
+        gameRecordRepository.saveAll(records);
+    }
+}
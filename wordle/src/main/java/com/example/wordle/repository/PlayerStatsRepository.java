@@ -0,0 +1,23 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.PlayerStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    Optional<PlayerStats> findByPlayerId(String playerId);
+
+    List<PlayerStats> findByPlayerIdIn(Collection<String> playerIds);
+
+    // Classements servis par les index sur totalScore et bestStreak
+    List<PlayerStats> findByOrderByTotalScoreDesc(Pageable pageable);
+
+    List<PlayerStats> findByOrderByBestStreakDesc(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStatsDelta;
+
+import java.util.Collection;
+
+// Stockage des statistiques, utilisé par la persistance différée (write-behind)
+public interface StatsStore {
+
+    // Charge les statistiques persistées, ou crée la ligne si elle n'existe pas encore
+    GameStats loadGlobal();
+
+    // Enregistre les statistiques et renvoie la version persistée
+    GameStats saveGlobal(GameStats stats);
+
+    // Ajoute aux statistiques de chaque joueur les parties accumulées depuis la dernière écriture
+    default void savePlayerDeltas(Collection<PlayerStatsDelta> deltas) {
+    }
+
+    // Ajoute des parties terminées à l'historique
+    default void saveGameRecords(Collection<GameRecord> records) {
+    }
+}
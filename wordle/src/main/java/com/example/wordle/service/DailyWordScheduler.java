@@ -0,0 +1,138 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Mot du jour : pour une date et une longueur, tous les joueurs (et tous les serveurs)
+// obtiennent le même mot. Chaque bucket de longueur est parcouru dans un ordre mélangé
+// à partir d'une graine fixe, sans répétition avant d'avoir épuisé le bucket ; un nouveau
+// mélange est tiré à chaque cycle. java.util.Random est utilisé car son algorithme est
+// spécifié, donc identique d'une JVM à l'autre.
+// Les mots du jour sont calculés une fois par date : lancer une partie du jour coûte une lecture.
+@Component
+public class DailyWordScheduler {
+
+    private final WordleService wordleService;
+    private final long seed;
+    private final LocalDate epoch; // Jour 0 de la rotation
+    private final Clock clock;
+
+    // Ordre de parcours du cycle en cours, par longueur
+    private final Map<Integer, Rotation> rotations = new ConcurrentHashMap<>();
+    private volatile DailyWords today;
+
+    private record Rotation(DictionaryIndex source, long cycle, int[] order) {
+    }
+
+    private record DailyWords(DictionaryIndex source, LocalDate date, String[] words) {
+    }
+
+    @Autowired
+    public DailyWordScheduler(WordleService wordleService,
+                              @Value("${wordle.daily.seed:20250101}") long seed,
+                              @Value("${wordle.daily.epoch:2025-01-01}") String epoch,
+                              @Value("${wordle.daily.zone:Europe/Paris}") String zone) {
+        this(wordleService, seed, LocalDate.parse(epoch), Clock.system(ZoneId.of(zone)));
+    }
+
+    public DailyWordScheduler(WordleService wordleService, long seed, LocalDate epoch, Clock clock) {
+        this.wordleService = wordleService;
+        this.seed = seed;
+        this.epoch = epoch;
+        this.clock = clock;
+    }
+
+    // Lance une partie sur le mot du jour de la longueur demandée
+    public WordleGame startDailyGame(int length, int modeChoice, boolean strictDictionary) {
+        DailyWords words = todayWords();
+        String target = length > 0 && length < words.words().length ? words.words()[length] : null;
+        if (target == null) {
+            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+        }
+        WordleGame game = wordleService.startGame(target, modeChoice, strictDictionary);
+        game.setDailyDate(words.date());
+        return game;
+    }
+
+    // Mot du jour d'aujourd'hui pour la longueur donnée
+    public String todayWord(int length) {
+        return wordOf(today(), length);
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    // Mot du jour pour une date et une longueur quelconques
+    public String wordOf(LocalDate date, int length) {
+        DictionaryIndex dictionary = wordleService.getDictionary();
+        int count = dictionary.count(length);
+        if (count == 0) {
+            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+        }
+        long day = ChronoUnit.DAYS.between(epoch, date);
+        long cycle = Math.floorDiv(day, count);
+        int position = Math.floorMod(day, count);
+        return dictionary.wordAt(length, rotation(dictionary, length, cycle)[position]);
+    }
+
+    // Mots du jour, recalculés au changement de date (ou de dictionnaire)
+    private DailyWords todayWords() {
+        LocalDate date = today();
+        DictionaryIndex dictionary = wordleService.getDictionary();
+        DailyWords words = today;
+        if (words != null && words.date().equals(date) && words.source() == dictionary) {
+            return words;
+        }
+        synchronized (this) {
+            words = today;
+            if (words == null || !words.date().equals(date) || words.source() != dictionary) {
+                String[] byLength = new String[dictionary.isEmpty() ? 0 : dictionary.getMaxLength() + 1];
+                for (int length = 1; length < byLength.length; length++) {
+                    if (dictionary.count(length) > 0) {
+                        byLength[length] = wordOf(date, length);
+                    }
+                }
+                words = new DailyWords(dictionary, date, byLength);
+                today = words;
+            }
+            return words;
+        }
+    }
+
+    // Permutation des indices du bucket pour un cycle, gardée tant que le cycle dure
+    private int[] rotation(DictionaryIndex dictionary, int length, long cycle) {
+        Rotation rotation = rotations.get(length);
+        if (rotation == null || rotation.cycle() != cycle || rotation.source() != dictionary) {
+            rotation = new Rotation(dictionary, cycle, shuffle(dictionary.count(length), length, cycle));
+            rotations.put(length, rotation);
+        }
+        return rotation.order();
+    }
+
+    // Mélange de Fisher-Yates, déterminé par la graine, la longueur et le cycle
+    private int[] shuffle(int count, int length, long cycle) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(seed ^ (length * 0x9E3779B97F4A7C15L) ^ (cycle * 0xC2B2AE3D27D4EB4FL));
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+}
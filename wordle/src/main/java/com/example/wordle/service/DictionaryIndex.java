@@ -0,0 +1,237 @@
+package com.example.wordle.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Index du dictionnaire : les mots sont rangés par longueur, sous forme d'enregistrements
+// de taille fixe dans un buffer (voir DictionarySnapshot). Le buffer est projeté en mémoire
+// depuis listeMots.bin quand il est disponible, et reste donc hors du tas Java.
+// Une table de hachage à adressage ouvert par longueur répond à "ce mot existe-t-il ?"
+// en temps constant, sans allocation.
+public final class DictionaryIndex {
+
+    private final ByteBuffer data; // en lecture seule
+    private final int[] counts;    // counts[n] = nombre de mots de n lettres
+    private final int[] offsets;   // offsets[n] = position du premier mot de n lettres
+    private final int minLength;
+    private final int maxLength;
+    private final int size;
+    private final int[][] hashTables; // hashTables[n][slot] = indice du mot + 1, 0 = vide
+
+    private DictionaryIndex(ByteBuffer data) {
+        if (data.getInt(0) != DictionarySnapshot.MAGIC || data.getInt(4) != DictionarySnapshot.VERSION) {
+            throw new IllegalStateException("Format de dictionnaire non reconnu.");
+        }
+        int max = data.getInt(8);
+        this.data = data.asReadOnlyBuffer();
+        this.counts = new int[max + 1];
+        this.offsets = new int[max + 1];
+
+        int min = 0;
+        int total = 0;
+        for (int len = 0; len <= max; len++) {
+            int entry = DictionarySnapshot.HEADER_SIZE + len * DictionarySnapshot.ENTRY_SIZE;
+            counts[len] = data.getInt(entry);
+            offsets[len] = data.getInt(entry + 4);
+            if (len > 0 && counts[len] > 0 && min == 0) {
+                min = len;
+            }
+            total += len > 0 ? counts[len] : 0;
+        }
+        this.minLength = min;
+        this.maxLength = total == 0 ? 0 : max;
+        this.size = total;
+
+        this.hashTables = new int[max + 1][];
+        for (int len = 1; len <= max; len++) {
+            hashTables[len] = buildHashTable(len);
+        }
+    }
+
+    // Table de taille puissance de 2, remplie au plus à moitié
+    private int[] buildHashTable(int length) {
+        int count = counts[length];
+        int[] table = new int[Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int i = 0; i < count; i++) {
+            int offset = offsets[length] + i * length;
+            int hash = 0x811C9DC5;
+            for (int p = 0; p < length; p++) {
+                hash = (hash ^ (data.get(offset + p) & 0xFF)) * 0x01000193;
+            }
+            int slot = mix(hash) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // Construit l'index à partir d'une collection de mots (mis en majuscules, sans doublon)
+    public static DictionaryIndex of(Collection<String> words) {
+        try (BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", words)))) {
+            return new DictionaryIndex(DictionarySnapshot.encode(reader));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Charge le dictionnaire : le fichier binaire précompilé (même nom, extension .bin)
+    // s'il est présent, sinon le fichier texte (un mot par ligne)
+    public static DictionaryIndex fromClasspath(String resource) {
+        ClassPathResource snapshot = new ClassPathResource(resource.replaceFirst("\\.txt$", "") + ".bin");
+        try {
+            if (snapshot.exists()) {
+                return new DictionaryIndex(map(snapshot));
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))
+            ) {
+                return new DictionaryIndex(DictionarySnapshot.encode(reader));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible de charger les mots", e);
+        }
+    }
+
+    // Charge une liste de mots depuis le disque, lue au fil de l'eau (un mot par ligne)
+    public static DictionaryIndex fromFile(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return new DictionaryIndex(DictionarySnapshot.encode(reader));
+        }
+    }
+
+    // Projette le fichier en mémoire ; depuis un jar, copie dans un buffer direct (hors tas)
+    private static ByteBuffer map(ClassPathResource resource) throws IOException {
+        if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(Path.of(resource.getURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        }
+    }
+
+    // Indique si le mot (en majuscules) fait partie du dictionnaire
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    // Position du mot (en majuscules) dans le bucket de sa longueur, ou -1 s'il est inconnu
+    public int indexOf(CharSequence word) {
+        int length = word.length();
+        if (count(length) == 0) {
+            return -1;
+        }
+        int hash = 0x811C9DC5;
+        for (int p = 0; p < length; p++) {
+            char c = word.charAt(p);
+            if (c > 0xFF) {
+                return -1;
+            }
+            hash = (hash ^ c) * 0x01000193;
+        }
+        int[] table = hashTables[length];
+        int mask = table.length - 1;
+        for (int slot = mix(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (matches(word, offsets[length] + index * length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(CharSequence word, int offset) {
+        for (int p = 0; p < word.length(); p++) {
+            if ((data.get(offset + p) & 0xFF) != word.charAt(p)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Tire un mot au hasard parmi ceux de la longueur demandée, en O(1)
+    public String randomWord(int length) {
+        int count = count(length);
+        if (count == 0) {
+            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+        }
+        return wordAt(length, ThreadLocalRandom.current().nextInt(count));
+    }
+
+    // Nombre de mots de la longueur demandée
+    public int count(int length) {
+        return length <= 0 || length >= counts.length ? 0 : counts[length];
+    }
+
+    // Mot à la position donnée dans le bucket de la longueur demandée
+    public String wordAt(int length, int index) {
+        byte[] word = new byte[length];
+        data.get(offsetOf(length, index), word);
+        return new String(word, StandardCharsets.ISO_8859_1);
+    }
+
+    // Lettre à la position donnée du mot d'indice index (sans créer de String)
+    public byte letterAt(int length, int index, int position) {
+        return data.get(offsetOf(length, index) + position);
+    }
+
+    // Copie tous les mots d'une longueur dans un tableau (mot i aux octets [i * length, (i + 1) * length[)
+    public byte[] copyBucket(int length) {
+        byte[] bucket = new byte[count(length) * length];
+        if (bucket.length > 0) {
+            data.get(offsets[length], bucket);
+        }
+        return bucket;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMinLength() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Le dictionnaire est vide.");
+        }
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Le dictionnaire est vide.");
+        }
+        return maxLength;
+    }
+
+    private int offsetOf(int length, int index) {
+        if (index < 0 || index >= count(length)) {
+            throw new IndexOutOfBoundsException("Mot " + index + " de longueur " + length);
+        }
+        return offsets[length] + index * length;
+    }
+}
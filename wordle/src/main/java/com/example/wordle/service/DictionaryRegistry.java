@@ -0,0 +1,315 @@
+package com.example.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Dictionnaires disponibles, par nom (langues, listes thématiques...). Le dictionnaire par défaut
+// est listeMots.txt ; le répertoire wordle.dictionaries.directory peut en ajouter d'autres :
+// <nom>.txt donne les mots à deviner, <nom>.guesses.txt (facultatif) les essais acceptés en plus.
+// Les fichiers sont surveillés : une liste modifiée est relue et indexée sur un thread à part,
+// puis remplace l'ancienne d'un coup. Les parties en cours gardent leur mot, et les appels déjà
+// lancés finissent sur la version qu'ils ont obtenue.
+@Component
+public class DictionaryRegistry implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionaryRegistry.class);
+
+    public static final String DEFAULT_NAME = "fr";
+    private static final Pattern NAME = Pattern.compile("[a-z0-9_-]{1," + GameStateCodec.MAX_DICTIONARY_NAME_BYTES + "}");
+    private static final String SUFFIX = ".txt";
+    private static final String GUESSES_SUFFIX = ".guesses.txt";
+
+    private final String defaultName;
+    private final DictionaryIndex builtin; // listeMots.txt, quand le répertoire ne remplace pas le défaut
+    private final Path directory; // null : seulement le dictionnaire intégré
+    private final long reloadDelayMillis;
+    private final Map<String, Dictionary> dictionaries = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService loader; // null : pas de surveillance
+    private final WatchService watcher;
+
+    // Une version d'un dictionnaire, jamais modifiée : un rechargement en crée une nouvelle
+    public static final class Dictionary {
+
+        private final String name;
+        private final DictionaryIndex answers; // Mots pouvant être tirés
+        private final DictionaryIndex allowed; // Essais acceptés en plus des réponses (null : aucun)
+        private final AtomicReferenceArray<byte[]> buckets; // Copies des buckets, faites à la demande
+        private final AtomicReferenceArray<LetterIndex> letterIndexes; // Construits à la demande
+
+        private Dictionary(String name, DictionaryIndex answers, DictionaryIndex allowed) {
+            this.name = name;
+            this.answers = answers;
+            this.allowed = allowed;
+            this.buckets = new AtomicReferenceArray<>(answers.isEmpty() ? 1 : answers.getMaxLength() + 1);
+            this.letterIndexes = new AtomicReferenceArray<>(buckets.length());
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DictionaryIndex answers() {
+            return answers;
+        }
+
+        // Indique si le mot (en majuscules) est un essai valide en mode strict
+        public boolean accepts(CharSequence word) {
+            return answers.contains(word) || (allowed != null && allowed.contains(word));
+        }
+
+        // Mots à deviner d'une longueur en octets contigus, recopiés une fois par version
+        public byte[] bucket(int length) {
+            if (length <= 0 || length >= buckets.length()) {
+                return new byte[0];
+            }
+            byte[] bucket = buckets.get(length);
+            if (bucket == null) {
+                bucket = answers.copyBucket(length);
+                if (!buckets.compareAndSet(length, null, bucket)) {
+                    bucket = buckets.get(length);
+                }
+            }
+            return bucket;
+        }
+
+        // Index des lettres par position des mots à deviner d'une longueur (recherches par motif)
+        public LetterIndex letterIndex(int length) {
+            if (length <= 0 || length >= letterIndexes.length()) {
+                return LetterIndex.of(new byte[0], Math.max(length, 1));
+            }
+            LetterIndex index = letterIndexes.get(length);
+            if (index == null) {
+                index = LetterIndex.of(bucket(length), length);
+                if (!letterIndexes.compareAndSet(length, null, index)) {
+                    index = letterIndexes.get(length);
+                }
+            }
+            return index;
+        }
+
+        public int allowedCount() {
+            return allowed == null ? 0 : allowed.size();
+        }
+    }
+
+    // Dictionnaire intégré seul, sans répertoire ni surveillance
+    public DictionaryRegistry() {
+        this(DEFAULT_NAME, null, Duration.ZERO, false);
+    }
+
+    @Autowired
+    public DictionaryRegistry(@Value("${wordle.dictionaries.default:" + DEFAULT_NAME + "}") String defaultName,
+                              @Value("${wordle.dictionaries.directory:}") String directory,
+                              @Value("${wordle.dictionaries.reload-delay:500ms}") Duration reloadDelay) {
+        this(defaultName, directory.isBlank() ? null : Path.of(directory), reloadDelay, true);
+    }
+
+    // Avec watch = false, les fichiers ne sont lus qu'au démarrage et par reload()
+    public DictionaryRegistry(String defaultName, Path directory, Duration reloadDelay, boolean watch) {
+        checkName(defaultName);
+        this.defaultName = defaultName;
+        this.directory = directory;
+        this.reloadDelayMillis = Math.max(0, reloadDelay.toMillis());
+        this.builtin = DictionaryIndex.fromClasspath("listeMots.txt");
+        register(defaultName, builtin, null);
+
+        if (directory == null) {
+            this.loader = null;
+            this.watcher = null;
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            listNames().forEach(this::reload);
+            if (watch) {
+                this.watcher = directory.getFileSystem().newWatchService();
+                directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                this.loader = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "wordle-dictionary-loader");
+                    t.setDaemon(true);
+                    return t;
+                });
+                Thread thread = new Thread(this::watch, "wordle-dictionary-watcher");
+                thread.setDaemon(true);
+                thread.start();
+            } else {
+                this.loader = null;
+                this.watcher = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de lire le répertoire de dictionnaires " + directory, e);
+        }
+    }
+
+    // Version courante du dictionnaire (null : dictionnaire par défaut)
+    public Dictionary get(String name) {
+        Dictionary dictionary = dictionaries.get(name == null ? defaultName : name);
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionnaire inconnu : " + name);
+        }
+        return dictionary;
+    }
+
+    public Dictionary getDefault() {
+        return get(null);
+    }
+
+    public String getDefaultName() {
+        return defaultName;
+    }
+
+    public Set<String> names() {
+        return new TreeSet<>(dictionaries.keySet());
+    }
+
+    // Longueur de mot maximale, tous dictionnaires confondus
+    public int getMaxLength() {
+        return dictionaries.values().stream()
+                .filter(d -> !d.answers.isEmpty())
+                .mapToInt(d -> d.answers.getMaxLength())
+                .max().orElse(0);
+    }
+
+    // Ajoute ou remplace un dictionnaire (remplacement atomique pour les lecteurs)
+    public Dictionary register(String name, DictionaryIndex answers, DictionaryIndex allowed) {
+        checkName(name);
+        Dictionary dictionary = new Dictionary(name, answers, allowed);
+        dictionaries.put(name, dictionary);
+        return dictionary;
+    }
+
+    // Relit les fichiers d'un dictionnaire ; en cas d'échec, la version en place reste servie
+    public boolean reload(String name) {
+        if (directory == null) {
+            return false;
+        }
+        Path answersFile = directory.resolve(name + SUFFIX);
+        Path guessesFile = directory.resolve(name + GUESSES_SUFFIX);
+        try {
+            long start = System.nanoTime();
+            DictionaryIndex answers = Files.exists(answersFile) ? DictionaryIndex.fromFile(answersFile)
+                    : name.equals(defaultName) ? builtin : null;
+            if (answers == null || answers.isEmpty()) {
+                log.info("Dictionnaire {} absent ou vide : version actuelle conservée", name);
+                return false;
+            }
+            DictionaryIndex allowed = Files.exists(guessesFile) ? DictionaryIndex.fromFile(guessesFile) : null;
+            register(name, answers, allowed);
+            log.info("Dictionnaire {} chargé : {} mots, {} essais supplémentaires ({} ms)", name, answers.size(),
+                    allowed == null ? 0 : allowed.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Dictionnaire {} non rechargé, la version précédente reste en service", name, e);
+            return false;
+        }
+    }
+
+    // Noms des dictionnaires présents dans le répertoire
+    private Set<String> listNames() throws IOException {
+        Set<String> names = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> nameOf(file.getFileName().toString())).forEach(name -> {
+                if (name != null) {
+                    names.add(name);
+                }
+            });
+        }
+        return names;
+    }
+
+    // Nom du dictionnaire auquel appartient un fichier, null pour les autres fichiers
+    private static String nameOf(String fileName) {
+        String name = fileName.endsWith(GUESSES_SUFFIX)
+                ? fileName.substring(0, fileName.length() - GUESSES_SUFFIX.length())
+                : fileName.endsWith(SUFFIX) ? fileName.substring(0, fileName.length() - SUFFIX.length()) : null;
+        return name != null && NAME.matcher(name).matches() ? name : null;
+    }
+
+    private static void checkName(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Nom de dictionnaire invalide : " + name
+                    + " (minuscules, chiffres, - et _, " + GameStateCodec.MAX_DICTIONARY_NAME_BYTES + " caractères max).");
+        }
+    }
+
+    // Thread de surveillance : chaque modification (re)programme le rechargement du dictionnaire
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    try {
+                        listNames().forEach(this::scheduleReload);
+                    } catch (IOException e) {
+                        log.warn("Échec de la lecture du répertoire de dictionnaires", e);
+                    }
+                    continue;
+                }
+                String name = nameOf(event.context().toString());
+                if (name != null) {
+                    scheduleReload(name);
+                }
+            }
+            if (!key.reset()) {
+                log.warn("Répertoire de dictionnaires {} plus surveillé", directory);
+                return;
+            }
+        }
+    }
+
+    // Un fichier en cours d'écriture produit plusieurs événements : on attend qu'il se calme
+    private void scheduleReload(String name) {
+        pendingReloads.compute(name, (n, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return loader.schedule(() -> reload(n), reloadDelayMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    @Override
+    public void close() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.warn("Échec de la fermeture de la surveillance des dictionnaires", e);
+            }
+        }
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.wordle.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Format binaire précompilé du dictionnaire (généré au build à partir de listeMots.txt).
+//
+//   int magic ('WDIC'), int version, int maxLength
+//   pour chaque longueur n de 0 à maxLength : int count, int offset
+//   puis, pour chaque longueur, count enregistrements de n octets (A-Z), triés et sans doublon
+//
+// Les mots étant de taille fixe dans un bucket, le i-ème mot de n lettres est à offset + i * n.
+public final class DictionarySnapshot {
+
+    public static final int MAGIC = 0x57444943; // "WDIC"
+    public static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final int ENTRY_SIZE = 8;
+
+    private DictionarySnapshot() {
+    }
+
+    // Encode une liste de mots (un par ligne) au format binaire, en lisant le flux au fil de l'eau :
+    // chaque mot est ajouté directement au bucket d'octets de sa longueur (pas de liste de String),
+    // puis chaque bucket est trié (tri par base sur les enregistrements) et dédoublonné sur place.
+    public static ByteBuffer encode(BufferedReader reader) throws IOException {
+        List<Bucket> byLength = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String word = Latin1.toUpperCase(line.trim());
+            if (word.isEmpty()) {
+                continue;
+            }
+            while (byLength.size() <= word.length()) {
+                byLength.add(new Bucket(byLength.size()));
+            }
+            byLength.get(word.length()).add(word);
+        }
+
+        int maxLength = Math.max(0, byLength.size() - 1);
+        int[] counts = new int[maxLength + 1];
+        long dataSize = 0;
+        for (Bucket bucket : byLength) {
+            counts[bucket.length] = bucket.sortDistinct();
+            dataSize += (long) counts[bucket.length] * bucket.length;
+        }
+
+        ByteBuffer buffer = header(maxLength, counts, dataSize);
+        for (Bucket bucket : byLength) {
+            buffer.put(bucket.data, 0, counts[bucket.length] * bucket.length);
+        }
+        return buffer.flip();
+    }
+
+    // Alloue le buffer et écrit l'en-tête (magic, version, table des longueurs)
+    private static ByteBuffer header(int maxLength, int[] counts, long dataSize) {
+        int headerSize = HEADER_SIZE + (maxLength + 1) * ENTRY_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(headerSize + dataSize));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(maxLength);
+        int offset = headerSize;
+        for (int len = 0; len <= maxLength; len++) {
+            buffer.putInt(counts[len]).putInt(offset);
+            offset += counts[len] * len;
+        }
+        return buffer;
+    }
+
+    private static byte latin1(char c, String word) {
+        if (c > 0xFF) {
+            throw new IllegalArgumentException("Caractère non supporté dans " + word);
+        }
+        return (byte) c;
+    }
+
+    // Mots d'une longueur, bout à bout dans un tableau d'octets qui grandit au besoin
+    private static final class Bucket {
+        private final int length;
+        private byte[] data = new byte[0];
+        private int count;
+
+        private Bucket(int length) {
+            this.length = length;
+        }
+
+        void add(String word) {
+            if ((count + 1) * length > data.length) {
+                data = Arrays.copyOf(data, Math.max(64 * length, data.length * 2));
+            }
+            int offset = count++ * length;
+            for (int i = 0; i < length; i++) {
+                data[offset + i] = latin1(word.charAt(i), word);
+            }
+        }
+
+        // Tri par base (LSD, octet par octet depuis la dernière lettre), puis suppression
+        // des doublons devenus adjacents ; renvoie le nombre de mots distincts
+        int sortDistinct() {
+            if (count < 2) {
+                return count;
+            }
+            byte[] from = data;
+            byte[] to = new byte[count * length];
+            int[] starts = new int[257];
+            for (int position = length - 1; position >= 0; position--) {
+                Arrays.fill(starts, 0);
+                for (int w = 0; w < count; w++) {
+                    starts[(from[w * length + position] & 0xFF) + 1]++;
+                }
+                for (int b = 0; b < 256; b++) {
+                    starts[b + 1] += starts[b];
+                }
+                for (int w = 0; w < count; w++) {
+                    int dest = starts[from[w * length + position] & 0xFF]++;
+                    System.arraycopy(from, w * length, to, dest * length, length);
+                }
+                byte[] swap = from;
+                from = to;
+                to = swap;
+            }
+            data = from;
+
+            int distinct = 1;
+            for (int w = 1; w < count; w++) {
+                if (!Arrays.equals(data, w * length, (w + 1) * length,
+                        data, (distinct - 1) * length, distinct * length)) {
+                    System.arraycopy(data, w * length, data, distinct * length, length);
+                    distinct++;
+                }
+            }
+            count = distinct;
+            return distinct;
+        }
+    }
+
+    // Encode un fichier texte et écrit le résultat
+    public static void write(InputStream text, Path target) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(text, StandardCharsets.UTF_8))) {
+            ByteBuffer encoded = encode(reader);
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Files.write(target, encoded.array());
+        }
+    }
+
+    // Étape de build : DictionarySnapshot <listeMots.txt> <listeMots.bin>
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage : DictionarySnapshot <source.txt> <cible.bin>");
+        }
+        try (InputStream in = Files.newInputStream(Path.of(args[0]))) {
+            write(in, Path.of(args[1]));
+        }
+    }
+}
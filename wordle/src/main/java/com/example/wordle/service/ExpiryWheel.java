@@ -0,0 +1,219 @@
+package com.example.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// Roue temporelle hachée (hashed timing wheel) pour les expirations des parties chronométrées :
+// la roue avance d'une case par tick, chaque case contient la liste des échéances qui y tombent
+// (avec le nombre de tours restants). Programmer ou annuler une échéance coûte O(1) et ne fait
+// que déposer un élément dans une file ; seul le thread de la roue modifie les cases.
+// L'horloge est monotone (System.nanoTime par défaut) et injectable pour les tests.
+@Component
+public class ExpiryWheel implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiryWheel.class);
+
+    private static final int WHEEL_SIZE = 512; // Puissance de 2
+
+    private final long tickNanos;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE]; // Tête de liste de chaque case
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ScheduledExecutorService executor; // null : la roue est avancée à la main
+    private long tick; // Prochain tick à traiter
+
+    // Échéance programmée ; cancel() peut être appelé depuis n'importe quel thread
+    public final class Timeout {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadline; // En nanosecondes depuis le démarrage de la roue
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+        private int bucket = -1; // -1 : pas encore rangé dans une case
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        // Annule l'échéance si elle n'a pas encore expiré
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            pending.decrementAndGet();
+            cancelled.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    @Autowired
+    public ExpiryWheel(@Value("${wordle.expiry.tick:100ms}") Duration tick) {
+        this(tick, System::nanoTime, true);
+    }
+
+    // Avec started = false, aucun thread n'est créé : c'est à l'appelant d'appeler advance()
+    public ExpiryWheel(Duration tick, LongSupplier clock, boolean started) {
+        this.tickNanos = Math.max(1, tick.toNanos());
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        if (started) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "wordle-expiry-wheel");
+                t.setDaemon(true);
+                return t;
+            });
+            executor.scheduleWithFixedDelay(this::advanceQuietly, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    // Programme task dans delay (exécutée sur le thread de la roue, à un tick près)
+    public Timeout schedule(Duration delay, Runnable task) {
+        long deadline = clock.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(deadline, task);
+        pending.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    // Lecture de l'horloge de la roue (nanosecondes, monotone) : la même horloge date le début
+    // des parties chronométrées, pour que l'échéance et la vérification à l'essai concordent
+    public long nanoTime() {
+        return clock.getAsLong();
+    }
+
+    // Nombre d'échéances programmées ni expirées ni annulées
+    public int pending() {
+        return pending.get();
+    }
+
+    // Traite tous les ticks écoulés et renvoie le nombre d'échéances expirées
+    public synchronized int advance() {
+        long now = clock.getAsLong() - startNanos;
+        long lastTick = now / tickNanos;
+        int expired = 0;
+        while (tick <= lastTick) {
+            removeCancelled();
+            transferAdded();
+            expired += expireBucket((int) (tick & (WHEEL_SIZE - 1)));
+            tick++;
+        }
+        return expired;
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            // Premier tick atteint après l'échéance ; une échéance déjà passée tombe dans la case courante
+            long ticks = Math.max((timeout.deadline + tickNanos - 1) / tickNanos, tick);
+            timeout.remainingRounds = (ticks - tick) / WHEEL_SIZE;
+            link(timeout, (int) (ticks & (WHEEL_SIZE - 1)));
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket >= 0) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private int expireBucket(int index) {
+        int expired = 0;
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                unlink(timeout);
+                if (timeout.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    pending.decrementAndGet();
+                    expired++;
+                    run(timeout.task);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+        return expired;
+    }
+
+    private void link(Timeout timeout, int index) {
+        timeout.bucket = index;
+        timeout.prev = null;
+        timeout.next = buckets[index];
+        if (buckets[index] != null) {
+            buckets[index].prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Échec d'une expiration programmée", e);
+        }
+    }
+
+    private void advanceQuietly() {
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            log.warn("Échec de l'avancement de la roue d'expiration", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
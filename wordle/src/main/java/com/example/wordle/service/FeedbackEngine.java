@@ -0,0 +1,139 @@
+package com.example.wordle.service;
+
+// Moteur de calcul du feedback d'un essai, sans allocation.
+// Le résultat est encodé en base 3 dans un long : le chiffre de la position i vaut
+// MISS ([_]), PRESENT ([O]) ou HIT ([X]), la position 0 étant le chiffre de poids faible.
+// 3^26 tient dans un long, ce qui couvre tous les mots du dictionnaire.
+public final class FeedbackEngine {
+
+    public static final int MISS = 0;
+    public static final int PRESENT = 1;
+    public static final int HIT = 2;
+
+    public static final int MAX_LENGTH = 39; // 3^39 < 2^63
+
+    // Taille du tableau de comptage : une case par caractère Latin-1 (les mots des dictionnaires
+    // sont en ISO-8859-1, lettres accentuées comprises)
+    public static final int COUNTS_SIZE = 256;
+
+    private static final long[] POW3 = new long[MAX_LENGTH + 1];
+
+    // Tableau de comptage réutilisé par thread (COUNTS_SIZE cases)
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[COUNTS_SIZE]);
+
+    static {
+        POW3[0] = 1;
+        for (int i = 1; i < POW3.length; i++) {
+            POW3[i] = POW3[i - 1] * 3;
+        }
+    }
+
+    private FeedbackEngine() {
+    }
+
+    // Calcule le feedback de guess par rapport à target (même longueur, majuscules)
+    public static long score(CharSequence guess, CharSequence target) {
+        return score(guess, target, COUNTS.get());
+    }
+
+    // Variante avec tableau de comptage fourni par l'appelant (COUNTS_SIZE cases minimum).
+    // Seules les cases des lettres des deux mots sont remises à zéro : pas de parcours des 256 cases.
+    public static long score(CharSequence guess, CharSequence target, int[] counts) {
+        int length = target.length();
+        for (int i = 0; i < length; i++) {
+            counts[guess.charAt(i) & 0xFF] = 0;
+            counts[target.charAt(i) & 0xFF] = 0;
+        }
+
+        // 1er passage : lettres exactes, et comptage des lettres restantes de la cible
+        long pattern = 0;
+        long hits = 0; // bit i = position i déjà [X]
+        for (int i = 0; i < length; i++) {
+            char t = target.charAt(i);
+            if (guess.charAt(i) == t) {
+                pattern += HIT * POW3[i];
+                hits |= 1L << i;
+            } else if (t <= 0xFF) {
+                counts[t]++;
+            }
+        }
+
+        // 2e passage : lettres présentes ailleurs, dans la limite des occurrences restantes
+        for (int i = 0; i < length; i++) {
+            if ((hits & (1L << i)) == 0) {
+                char g = guess.charAt(i);
+                if (g <= 0xFF && counts[g] > 0) {
+                    counts[g]--;
+                    pattern += PRESENT * POW3[i];
+                }
+            }
+        }
+        return pattern;
+    }
+
+    // Même calcul sur des mots stockés en octets ISO-8859-1, à partir des positions données
+    public static long score(byte[] guess, int guessOffset, byte[] target, int targetOffset, int length) {
+        return score(guess, guessOffset, target, targetOffset, length, COUNTS.get());
+    }
+
+    // Variante avec tableau de comptage fourni par l'appelant (COUNTS_SIZE cases minimum)
+    public static long score(byte[] guess, int guessOffset, byte[] target, int targetOffset, int length, int[] counts) {
+        for (int i = 0; i < length; i++) {
+            counts[guess[guessOffset + i] & 0xFF] = 0;
+            counts[target[targetOffset + i] & 0xFF] = 0;
+        }
+
+        long pattern = 0;
+        long hits = 0;
+        for (int i = 0; i < length; i++) {
+            byte t = target[targetOffset + i];
+            if (guess[guessOffset + i] == t) {
+                pattern += HIT * POW3[i];
+                hits |= 1L << i;
+            } else {
+                counts[t & 0xFF]++;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            if ((hits & (1L << i)) == 0) {
+                int slot = guess[guessOffset + i] & 0xFF;
+                if (counts[slot] > 0) {
+                    counts[slot]--;
+                    pattern += PRESENT * POW3[i];
+                }
+            }
+        }
+        return pattern;
+    }
+
+    // Valeur du feedback d'une partie gagnée (toutes les positions à [X])
+    public static long allHits(int length) {
+        return POW3[length] - 1;
+    }
+
+    public static boolean isWin(long pattern, int length) {
+        return pattern == allHits(length);
+    }
+
+    // Nombre de feedbacks distincts possibles pour une longueur donnée
+    public static long patternCount(int length) {
+        return POW3[length];
+    }
+
+    // Chiffre (MISS, PRESENT ou HIT) de la position donnée
+    public static int digitAt(long pattern, int position) {
+        return (int) ((pattern / POW3[position]) % 3);
+    }
+
+    // Rendu du feedback au format "[X][O][_]" attendu par les clients
+    public static String render(long pattern, int length) {
+        StringBuilder sb = new StringBuilder(length * 3);
+        for (int i = 0; i < length; i++) {
+            int digit = (int) (pattern % 3);
+            pattern /= 3;
+            sb.append(digit == HIT ? "[X]" : digit == PRESENT ? "[O]" : "[_]");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+// Cache des feedbacks précalculés : pour une longueur donnée, la matrice contient le feedback
+// de chaque couple (essai, cible) du bucket, sur 1 octet (jusqu'à 5 lettres) ou 2 octets.
+// Les matrices sont construites à la demande, en parallèle et en arrière-plan, éventuellement
+// enregistrées dans des fichiers projetés en mémoire, et évincées (la moins récemment utilisée
+// d'abord) au-delà du budget mémoire. Les longueurs non couvertes sont calculées à la volée.
+@Component
+public class FeedbackMatrixCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedbackMatrixCache.class);
+
+    // 3^10 = 59049 feedbacks : au-delà, un feedback ne tient plus sur 2 octets
+    private static final int MAX_SUPPORTED_LENGTH = 10;
+
+    private final Supplier<DictionaryIndex> dictionary;
+    private final int maxLength;
+    private final long maxBytes;
+    private final Path directory; // null : pas d'enregistrement sur disque
+    private final ForkJoinPool pool;
+
+    private final Map<Integer, Matrix> matrices = new ConcurrentHashMap<>();
+    private final Map<Integer, Boolean> building = new ConcurrentHashMap<>();
+    private final Map<Integer, byte[]> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile DictionaryIndex source;
+
+    @Autowired
+    public FeedbackMatrixCache(WordleService wordleService,
+                               @Value("${wordle.feedback-matrix.max-length:6}") int maxLength,
+                               @Value("${wordle.feedback-matrix.max-bytes:268435456}") long maxBytes,
+                               @Value("${wordle.feedback-matrix.directory:}") String directory) {
+        this(wordleService::getDictionary, maxLength, maxBytes,
+                directory.isBlank() ? null : Path.of(directory), ForkJoinPool.commonPool());
+    }
+
+    public FeedbackMatrixCache(Supplier<DictionaryIndex> dictionary, int maxLength, long maxBytes,
+                               Path directory, ForkJoinPool pool) {
+        this.dictionary = dictionary;
+        this.maxLength = Math.min(maxLength, MAX_SUPPORTED_LENGTH);
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+        this.pool = pool;
+    }
+
+    // Matrice précalculée d'une longueur (mot i = i-ème mot du bucket)
+    public static final class Matrix {
+
+        private final ByteBuffer data;
+        private final int count;
+        private final boolean wide; // feedback sur 2 octets
+        private final DictionaryIndex source; // Version du dictionnaire dont les indices sont tirés
+        private volatile long lastUsed;
+
+        private Matrix(ByteBuffer data, int count, boolean wide, DictionaryIndex source) {
+            this.data = data;
+            this.count = count;
+            this.wide = wide;
+            this.source = source;
+        }
+
+        public long get(int guess, int target) {
+            int cell = guess * count + target;
+            return wide ? data.getChar(cell << 1) : data.get(cell) & 0xFF;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        long sizeInBytes() {
+            return (long) count * count * (wide ? 2 : 1);
+        }
+    }
+
+    // Feedback de l'essai guess pour la cible target (indices dans le bucket de la longueur)
+    public long pattern(int length, int guess, int target) {
+        Matrix matrix = matrix(length);
+        if (matrix != null) {
+            return matrix.get(guess, target);
+        }
+        byte[] bucket = bucket(length);
+        return FeedbackEngine.score(bucket, guess * length, bucket, target * length, length);
+    }
+
+    // Matrice de la longueur si elle est prête, sinon null (sa construction est alors lancée)
+    public Matrix matrix(int length) {
+        checkSource();
+        Matrix matrix = matrices.get(length);
+        if (matrix != null) {
+            matrix.lastUsed = clock.incrementAndGet();
+            return matrix;
+        }
+        if (isCacheable(length) && building.putIfAbsent(length, Boolean.TRUE) == null) {
+            DictionaryIndex dict = source;
+            pool.execute(() -> {
+                try {
+                    build(dict, length);
+                } finally {
+                    building.remove(length);
+                }
+            });
+        }
+        return null;
+    }
+
+    // Matrice de la longueur pour cette version du dictionnaire, null si elle n'est pas prête
+    // ou si le cache suit une autre version (dictionnaire rechargé, ou autre dictionnaire)
+    public Matrix matrix(DictionaryIndex dict, int length) {
+        if (dict != dictionary.get()) {
+            return null;
+        }
+        Matrix matrix = matrix(length);
+        return matrix != null && matrix.source == dict ? matrix : null;
+    }
+
+    // Construit la matrice d'une longueur et attend la fin (préchauffage, tests)
+    public Matrix await(int length) {
+        checkSource();
+        Matrix matrix = matrices.get(length);
+        if (matrix == null && isCacheable(length)) {
+            matrix = build(source, length);
+        }
+        return matrix;
+    }
+
+    // Mots d'une longueur en octets contigus, recopiés une fois par dictionnaire
+    public byte[] bucket(int length) {
+        checkSource();
+        return buckets.computeIfAbsent(length, source::copyBucket);
+    }
+
+    // Place occupée par les matrices en cache
+    public long usedBytes() {
+        return matrices.values().stream().mapToLong(Matrix::sizeInBytes).sum();
+    }
+
+    private boolean isCacheable(int length) {
+        int count = source.count(length);
+        return length <= maxLength && count > 0 && (long) count * count * (length > 5 ? 2 : 1) <= maxBytes;
+    }
+
+    private synchronized Matrix build(DictionaryIndex dict, int length) {
+        Matrix existing = matrices.get(length);
+        if (existing != null || dict != source) {
+            return existing;
+        }
+        byte[] bucket = bucket(length);
+        int count = bucket.length / length;
+        boolean wide = length > 5;
+        try {
+            ByteBuffer data = directory != null ? loadOrFillFile(bucket, length, count, wide) : fill(
+                    ByteBuffer.allocateDirect(Math.toIntExact((long) count * count * (wide ? 2 : 1))),
+                    bucket, length, count, wide);
+            Matrix matrix = new Matrix(data, count, wide, dict);
+            evictFor(matrix.sizeInBytes());
+            matrix.lastUsed = clock.incrementAndGet();
+            matrices.put(length, matrix);
+            return matrix;
+        } catch (IOException e) {
+            log.warn("Matrice de feedback {} lettres non construite", length, e);
+            return null;
+        }
+    }
+
+    // Remplit la matrice ligne par ligne, en parallèle
+    private ByteBuffer fill(ByteBuffer data, byte[] bucket, int length, int count, boolean wide) {
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(guess -> {
+            int[] counts = new int[FeedbackEngine.COUNTS_SIZE];
+            int row = guess * count;
+            for (int target = 0; target < count; target++) {
+                long pattern = FeedbackEngine.score(bucket, guess * length, bucket, target * length, length, counts);
+                if (wide) {
+                    data.putChar((row + target) << 1, (char) pattern);
+                } else {
+                    data.put(row + target, (byte) pattern);
+                }
+            }
+        })).join();
+        return data;
+    }
+
+    // Fichier nommé d'après le contenu du bucket, réutilisé s'il existe déjà
+    private ByteBuffer loadOrFillFile(byte[] bucket, int length, int count, boolean wide) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bucket);
+        Path file = directory.resolve("feedback-" + length + "-" + Long.toHexString(crc.getValue()) + ".bin");
+        long size = (long) count * count * (wide ? 2 : 1);
+
+        if (!Files.exists(file) || Files.size(file) != size) {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "feedback-" + length, ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                var mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                fill(mapped, bucket, length, count, wide);
+                mapped.force();
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    // Évince les matrices les moins récemment utilisées jusqu'à faire de la place
+    private void evictFor(long needed) {
+        while (usedBytes() + needed > maxBytes && !matrices.isEmpty()) {
+            matrices.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().lastUsed, b.getValue().lastUsed))
+                    .ifPresent(eldest -> matrices.remove(eldest.getKey()));
+        }
+    }
+
+    // Un nouveau dictionnaire invalide les matrices et buckets existants
+    private void checkSource() {
+        DictionaryIndex current = dictionary.get();
+        if (source != current) {
+            synchronized (this) {
+                if (source != current) {
+                    matrices.clear();
+                    buckets.clear();
+                    source = current;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GameEvent;
+import com.example.wordle.model.WordleGame;
+import io.micrometer.core.instrument.FunctionCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Journal des essais et des fins de partie, écrit en arrière-plan.
+// Le chemin d'un essai ne fait qu'un dépôt dans un anneau borné sans verrou (plusieurs
+// producteurs, un consommateur : chaque case porte un numéro de séquence qui dit si elle est
+// libre ou remplie). Un thread d'écriture vide l'anneau et ajoute chaque événement en fin de
+// segment, un fichier projeté en mémoire de taille fixe ; un segment plein est remplacé par le
+// suivant. Si l'anneau est plein, l'événement est abandonné (et compté) plutôt que de bloquer le jeu.
+//
+// Segment : int magic ('WEVT'), int version, puis les enregistrements bout à bout :
+//   int taille (octets qui suivent, 0 = fin des données), byte type, long date (ms),
+//   long + long identifiant UUID, byte drapeaux, byte mode, byte numéro d'essai, int score,
+//   long feedback, puis mot (ISO-8859-1), joueur (UTF-8) et dictionnaire, précédés de leur longueur.
+@Component
+public class GameEventLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GameEventLog.class);
+
+    private static final int MAGIC = 0x57455654; // "WEVT"
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 4 + 43 + 3 * 255;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private static final int WON = 1;
+    private static final int HAS_ID = 1 << 1;
+
+    private final Path directory; // null : journal désactivé
+    private final long segmentSize;
+    private final int mask;
+    private final GameEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // Prochaine case à remplir (producteurs)
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written; // Événements écrits par le thread d'écriture
+    private volatile long failed; // Événements retirés de l'anneau mais non écrits
+    private long head; // Prochaine case à vider (thread d'écriture seulement)
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+
+    @Autowired
+    public GameEventLog(@Value("${wordle.events.directory:}") String directory,
+                        @Value("${wordle.events.segment-size:64MB}") DataSize segmentSize,
+                        @Value("${wordle.events.buffer-size:65536}") int bufferSize,
+                        GameMetrics metrics) {
+        this(directory.isBlank() ? null : Path.of(directory), segmentSize.toBytes(), bufferSize);
+        if (this.directory != null) {
+            FunctionCounter.builder("wordle.events.written", this, GameEventLog::written)
+                    .description("Événements écrits dans le journal des parties")
+                    .register(metrics.getRegistry());
+            FunctionCounter.builder("wordle.events.dropped", this, GameEventLog::dropped)
+                    .description("Événements abandonnés (anneau plein ou écriture impossible)")
+                    .register(metrics.getRegistry());
+        }
+    }
+
+    public GameEventLog(Path directory, long segmentSize, int bufferSize) {
+        if (segmentSize < SEGMENT_HEADER_SIZE + MAX_RECORD_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Taille de segment invalide : " + segmentSize);
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) * 2 - 1);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.mask = capacity - 1;
+        this.slots = new GameEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        if (directory == null) {
+            this.writer = null;
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            openLastSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'ouvrir le journal des parties " + directory, e);
+        }
+        this.writer = new Thread(this::drain, "wordle-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Journal désactivé : les événements sont ignorés
+    public static GameEventLog disabled() {
+        return new GameEventLog(null, SEGMENT_HEADER_SIZE + MAX_RECORD_SIZE, 2);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public void guess(WordleGame game, String guess, long pattern) {
+        if (directory != null) {
+            offer(GameEvent.guess(game, guess, pattern, System.currentTimeMillis()));
+        }
+    }
+
+    public void finished(WordleGame game) {
+        if (directory != null) {
+            offer(GameEvent.finished(game, System.currentTimeMillis()));
+        }
+    }
+
+    // Dépose l'événement dans l'anneau ; false (et événement compté comme perdu) s'il est plein
+    boolean offer(GameEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    sequences.set(index, position + 1); // Publie la case au thread d'écriture
+                    return true;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    public long written() {
+        return written;
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    // Attend que les événements déjà déposés soient écrits (tests, relecture)
+    public boolean flush(Duration timeout) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (written + failed < target) {
+            if (writer == null || !writer.isAlive() || System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        return true;
+    }
+
+    // Thread d'écriture : vide l'anneau jusqu'à l'arrêt (ou une interruption de close()), puis ferme
+    // lui-même le segment, pour qu'il ne soit jamais libéré pendant une écriture
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                int index = (int) (head & mask);
+                if (sequences.get(index) != head + 1) {
+                    if (!running) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                GameEvent event = slots[index];
+                slots[index] = null;
+                sequences.set(index, head + slots.length); // La case redevient libre pour le tour suivant
+                head++;
+                try {
+                    write(event);
+                    written++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Événement non écrit dans le journal des parties", e);
+                    dropped.incrementAndGet();
+                    failed++;
+                }
+            }
+        } finally {
+            try {
+                closeSegment();
+            } catch (IOException e) {
+                log.warn("Échec de la fermeture du journal des parties", e);
+            }
+        }
+    }
+
+    private void write(GameEvent event) throws IOException {
+        byte[] word = bytes(event.word(), StandardCharsets.ISO_8859_1);
+        byte[] player = bytes(event.playerId(), StandardCharsets.UTF_8);
+        byte[] dictionary = bytes(event.dictionary(), StandardCharsets.US_ASCII);
+        UUID id = event.gameId() == null ? null : UUID.fromString(event.gameId());
+        int size = 43 + word.length + player.length + dictionary.length;
+
+        if (segment.position() + 4 + size > segmentSize) {
+            openSegment(segmentIndex + 1);
+        }
+        int start = segment.position();
+        segment.position(start + 4);
+        segment.put((byte) event.type().ordinal());
+        segment.putLong(event.timeMillis());
+        segment.putLong(id == null ? 0 : id.getMostSignificantBits());
+        segment.putLong(id == null ? 0 : id.getLeastSignificantBits());
+        segment.put((byte) ((event.won() ? WON : 0) | (id != null ? HAS_ID : 0)));
+        segment.put((byte) event.mode());
+        segment.put((byte) event.attempt());
+        segment.putInt(event.score());
+        segment.putLong(event.pattern());
+        putString(word);
+        putString(player);
+        putString(dictionary);
+        // La taille est écrite en dernier : un lecteur ne voit jamais un enregistrement à moitié écrit
+        segment.putInt(start, size);
+    }
+
+    private void putString(byte[] value) {
+        segment.put((byte) value.length);
+        segment.put(value);
+    }
+
+    // Chaîne tronquée à 255 octets (longueur sur un octet)
+    private static byte[] bytes(String value, Charset charset) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(charset);
+        return bytes.length <= 255 ? bytes : Arrays.copyOf(bytes, 255);
+    }
+
+    // Reprend l'écriture à la fin du dernier segment existant
+    private void openLastSegment() throws IOException {
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            openSegment(1);
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        int index = indexOf(last);
+        if (Files.size(last) != segmentSize) {
+            openSegment(index + 1);
+            return;
+        }
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentIndex = index;
+        if (segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION) {
+            openSegment(index + 1);
+            return;
+        }
+        int position = SEGMENT_HEADER_SIZE;
+        while (position + 4 <= segmentSize) {
+            int size = segment.getInt(position);
+            if (size <= 0 || position + 4 + size > segmentSize) {
+                break;
+            }
+            position += 4 + size;
+        }
+        segment.position(position);
+    }
+
+    private void openSegment(int index) throws IOException {
+        closeSegment();
+        Path file = directory.resolve(String.format("events-%06d.log", index));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC).putInt(VERSION);
+        segmentIndex = index;
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(Duration.ofSeconds(5).toMillis());
+            if (writer.isAlive()) {
+                // Écriture trop lente : les événements restants sont abandonnés, le thread d'écriture
+                // ferme le segment en sortant
+                writer.interrupt();
+                writer.join(Duration.ofSeconds(5).toMillis());
+                if (writer.isAlive()) {
+                    log.warn("Le thread d'écriture du journal des parties ne s'est pas arrêté");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Relit tous les événements du répertoire, dans l'ordre d'écriture (segments lus à la demande)
+    public static Stream<GameEvent> read(Path directory) throws IOException {
+        return segments(directory).stream().flatMap(file -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(readSegment(file), 0), false));
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().matches("events-\\d{6}\\.log")).sorted().toList();
+        }
+    }
+
+    private static int indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(7, 13));
+    }
+
+    private static Iterator<GameEvent> readSegment(Path file) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Segment illisible : " + file, e);
+        }
+        if (buffer.limit() < SEGMENT_HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Format de journal non reconnu : " + file);
+        }
+        buffer.position(SEGMENT_HEADER_SIZE);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (buffer.remaining() < 4) {
+                    return false;
+                }
+                int size = buffer.getInt(buffer.position());
+                return size > 0 && size <= buffer.remaining() - 4;
+            }
+
+            @Override
+            public GameEvent next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                buffer.getInt();
+                GameEvent.Type type = GameEvent.Type.values()[buffer.get()];
+                long time = buffer.getLong();
+                long msb = buffer.getLong();
+                long lsb = buffer.getLong();
+                int flags = buffer.get();
+                int mode = buffer.get();
+                int attempt = buffer.get() & 0xFF;
+                int score = buffer.getInt();
+                long pattern = buffer.getLong();
+                String word = getString(StandardCharsets.ISO_8859_1);
+                String player = getString(StandardCharsets.UTF_8);
+                String dictionary = getString(StandardCharsets.US_ASCII);
+                return new GameEvent(type, time, (flags & HAS_ID) != 0 ? new UUID(msb, lsb).toString() : null,
+                        player.isEmpty() ? null : player, dictionary.isEmpty() ? null : dictionary,
+                        mode, word, pattern, attempt, (flags & WON) != 0, score);
+            }
+
+            private String getString(Charset charset) {
+                byte[] bytes = new byte[buffer.get() & 0xFF];
+                buffer.get(bytes);
+                return new String(bytes, charset);
+            }
+        };
+    }
+}
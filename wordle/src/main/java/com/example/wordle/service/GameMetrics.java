@@ -0,0 +1,141 @@
+package com.example.wordle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Métriques du jeu (exposées par Actuator, au format Prometheus sur /actuator/prometheus).
+// Les compteurs sont résolus une seule fois puis gardés dans des champs ou des tableaux :
+// le chemin d'un essai ne fait ni recherche par tags ni allocation.
+// La latence de checkGuess n'est mesurée que sur un essai sur SAMPLE_RATE, pour que
+// les appels à nanoTime ne pèsent pas sur le chemin chaud.
+@Component
+public class GameMetrics {
+
+    static final int SAMPLE_RATE = 64;
+
+    private static final String[] MODES = {"autre", "standard", "chrono", "pratique"};
+
+    private final MeterRegistry registry;
+    // startedCounters[mode * (MAX_LENGTH + 1) + longueur], créé au premier usage
+    private final AtomicReferenceArray<Counter> startedCounters =
+            new AtomicReferenceArray<>(MODES.length * (FeedbackEngine.MAX_LENGTH + 1));
+    private final Counter guesses;
+    private final Counter rejectedGuesses;
+    private final Counter wins;
+    private final Counter losses;
+    private final Counter timeUps;
+    private final Timer startTimer;
+    private final Timer guessTimer;
+    private final Timer persistTimer;
+    private final Counter persistFailures;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.guesses = Counter.builder("wordle.guesses")
+                .description("Essais analysés")
+                .register(registry);
+        this.rejectedGuesses = Counter.builder("wordle.guesses.rejected")
+                .description("Essais refusés (mot invalide ou inconnu)")
+                .register(registry);
+        this.wins = Counter.builder("wordle.games.finished")
+                .description("Parties terminées")
+                .tag("outcome", "win")
+                .register(registry);
+        this.losses = Counter.builder("wordle.games.finished")
+                .description("Parties terminées")
+                .tag("outcome", "loss")
+                .register(registry);
+        this.timeUps = Counter.builder("wordle.games.time.up")
+                .description("Parties chronométrées arrêtées faute de temps")
+                .register(registry);
+        Gauge.builder("wordle.games.win.ratio", this, GameMetrics::winRate)
+                .description("Part des parties terminées qui sont gagnées")
+                .register(registry);
+        this.startTimer = Timer.builder("wordle.game.start")
+                .description("Durée de création d'une partie")
+                .register(registry);
+        this.guessTimer = Timer.builder("wordle.guess")
+                .description("Durée d'analyse d'un essai (échantillonnée)")
+                .register(registry);
+        this.persistTimer = Timer.builder("wordle.stats.persist")
+                .description("Durée d'écriture d'un lot de statistiques")
+                .register(registry);
+        this.persistFailures = Counter.builder("wordle.stats.persist.failures")
+                .description("Échecs d'écriture des statistiques")
+                .register(registry);
+    }
+
+    // Métriques en mémoire uniquement (hors contexte Spring)
+    public static GameMetrics inMemory() {
+        return new GameMetrics(new SimpleMeterRegistry());
+    }
+
+    // Indique si l'essai courant doit être chronométré
+    boolean sampleGuess() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+    }
+
+    void gameStarted(int mode, int length, long startNanos) {
+        startedCounter(mode, length).increment();
+        startTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void guessScored() {
+        guesses.increment();
+    }
+
+    void guessTimed(long startNanos) {
+        guessTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void guessRejected() {
+        rejectedGuesses.increment();
+    }
+
+    void gameFinished(boolean won) {
+        (won ? wins : losses).increment();
+    }
+
+    void timeUp() {
+        timeUps.increment();
+    }
+
+    void persisted(long startNanos, boolean success) {
+        persistTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (!success) {
+            persistFailures.increment();
+        }
+    }
+
+    public double winRate() {
+        double finished = wins.count() + losses.count();
+        return finished == 0 ? 0 : wins.count() / finished;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    private Counter startedCounter(int mode, int length) {
+        int modeIndex = mode >= 1 && mode < MODES.length ? mode : 0;
+        int slot = modeIndex * (FeedbackEngine.MAX_LENGTH + 1) + length;
+        Counter counter = startedCounters.get(slot);
+        if (counter == null) {
+            counter = Counter.builder("wordle.games.started")
+                    .description("Parties lancées")
+                    .tag("mode", MODES[modeIndex])
+                    .tag("length", Integer.toString(length))
+                    .register(registry);
+            startedCounters.set(slot, counter);
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+// Parties en cours, partagées entre les requêtes : nombre de sessions borné,
+// et éviction des sessions inactives depuis plus de idleTimeout.
+// Deux backends : dans le tas (HeapGameSessionStore) ou hors du tas, dans un fichier projeté
+// en mémoire (MappedGameSessionStore), choisis par wordle.sessions.backend.
+public interface GameSessionStore extends AutoCloseable {
+
+    // Enregistre une nouvelle partie et lui attribue un identifiant s'il n'en a pas.
+    // Renvoie false si le nombre maximal de sessions est atteint.
+    boolean add(WordleGame game);
+
+    // Récupère une partie et rafraîchit sa date de dernier accès.
+    // Selon le backend, c'est la partie elle-même ou une copie : la modifier passe par update.
+    Optional<WordleGame> get(String id);
+
+    // Exécute l'action sur la partie, seule, puis enregistre les modifications
+    <T> Optional<T> update(String id, Function<WordleGame, T> action);
+
+    void remove(String id);
+
+    int size();
+
+    // Supprime les sessions inactives depuis plus de idleTimeout
+    int evictIdle();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,326 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GameScript;
+import com.example.wordle.model.WordleGame;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Simulation de parties en masse, directement sur WordleService (sans couche web) :
+// les scripts sont lus au fil de l'eau, répartis par lots entre les threads, et chaque thread
+// tient ses propres compteurs (latences, scores), fusionnés à la fin dans le rapport.
+public class GameSimulator {
+
+    private static final int CHUNK_SIZE = 256; // Scripts pris d'un coup par un thread
+    private static final int MAX_SAMPLES = 10; // Écarts de score gardés pour le rapport
+
+    private final WordleService wordleService;
+    private final int threads;
+
+    public GameSimulator(WordleService wordleService, int threads) {
+        this.wordleService = wordleService;
+        this.threads = Math.max(1, threads);
+    }
+
+    // Rapport d'une simulation ; latences en nanosecondes, scores par tranches de 100 points
+    public record Report(long games, long wins, long rejectedGuesses, long scoreMismatches,
+                         List<String> mismatchSamples, long elapsedNanos,
+                         long p50, long p90, long p99, long p999, long max, long[] scoreBuckets) {
+
+        public double throughput() {
+            return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+        }
+
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Parties          : %d (%d gagnées)%n", games, wins));
+            sb.append(String.format("Débit            : %.0f parties/s en %.2f s%n", throughput(), elapsedNanos / 1e9));
+            sb.append(String.format("Latence (µs)     : p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                    p50 / 1e3, p90 / 1e3, p99 / 1e3, p999 / 1e3, max / 1e3));
+            sb.append(String.format("Essais refusés   : %d%n", rejectedGuesses));
+            sb.append(String.format("Scores inattendus: %d%n", scoreMismatches));
+            mismatchSamples.forEach(s -> sb.append("  ").append(s).append(System.lineSeparator()));
+            sb.append("Répartition des scores :").append(System.lineSeparator());
+            for (int i = 0; i < scoreBuckets.length; i++) {
+                if (scoreBuckets[i] > 0) {
+                    sb.append(String.format("  %4d-%4d : %d%n", i * 100, i * 100 + 99, scoreBuckets[i]));
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    // Lit les scripts d'un flux texte (une partie par ligne, lignes vides et # ignorées)
+    public static Iterator<GameScript> read(BufferedReader reader) {
+        return new Iterator<>() {
+            private GameScript next = advance();
+
+            private GameScript advance() {
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank() && !line.startsWith("#")) {
+                            return GameScript.parse(line);
+                        }
+                    }
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public GameScript next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                GameScript current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    // Génère des parties à partir d'une graine : le script n dépend seulement de (seed, n).
+    // Le joueur trouve le mot après un nombre d'essais tiré au hasard (ou jamais),
+    // les autres essais sont des mots du dictionnaire.
+    // Le score attendu est recalculé ici indépendamment de updateScore (sauf mode chrono).
+    public Iterator<GameScript> generate(long seed, long games, int length, int mode) {
+        DictionaryIndex dictionary = wordleService.getDictionary();
+        int count = dictionary.count(length);
+        if (count == 0) {
+            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+        }
+        // Les essais ratés doivent être d'autres mots que la cible
+        if (count < 2) {
+            throw new IllegalArgumentException("Un seul mot de longueur " + length
+                    + " : impossible de générer des essais ratés.");
+        }
+        int attempts = mode == 3 ? 10 : 6;
+        return new Iterator<>() {
+            private long n = 0;
+
+            @Override
+            public boolean hasNext() {
+                return n < games;
+            }
+
+            @Override
+            public GameScript next() {
+                if (n >= games) {
+                    throw new NoSuchElementException();
+                }
+                SplittableRandom random = new SplittableRandom(seed ^ (n++ * 0x9E3779B97F4A7C15L));
+                int target = random.nextInt(count);
+                int winAt = random.nextInt(attempts + 2); // >= attempts : partie perdue
+                int played = Math.min(winAt + 1, attempts);
+
+                List<String> guesses = new ArrayList<>(played);
+                for (int i = 0; i < played; i++) {
+                    int word = i == winAt ? target : random.nextInt(count);
+                    if (word == target && i != winAt) {
+                        word = (word + 1) % count;
+                    }
+                    guesses.add(dictionary.wordAt(length, word));
+                }
+                Integer expected = mode == 2 ? null : Math.max(1000 - (played - 1) * 100, 0);
+                return new GameScript(dictionary.wordAt(length, target), mode, guesses, expected);
+            }
+        };
+    }
+
+    // Joue tous les scripts sur les threads de la simulation
+    public Report run(Iterator<GameScript> scripts) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "wordle-simulation");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            long start = System.nanoTime();
+            List<Future<Recorder>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> work(scripts)));
+            }
+            Recorder total = new Recorder();
+            for (Future<Recorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total.report(System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrompue.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec de la simulation.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Recorder work(Iterator<GameScript> scripts) {
+        Recorder recorder = new Recorder();
+        List<GameScript> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (take(scripts, chunk)) {
+            for (GameScript script : chunk) {
+                play(script, recorder);
+            }
+            chunk.clear();
+        }
+        return recorder;
+    }
+
+    // Le flux de scripts est partagé : chaque thread en prend un lot à la fois
+    private static boolean take(Iterator<GameScript> scripts, List<GameScript> chunk) {
+        synchronized (scripts) {
+            while (chunk.size() < CHUNK_SIZE && scripts.hasNext()) {
+                chunk.add(scripts.next());
+            }
+        }
+        return !chunk.isEmpty();
+    }
+
+    private void play(GameScript script, Recorder recorder) {
+        long start = System.nanoTime();
+        WordleGame game = wordleService.startGame(script.targetWord(), script.mode(), false);
+        for (String guess : script.guesses()) {
+            if (game.isGameOver()) {
+                break;
+            }
+            try {
+                wordleService.scoreGuess(game, guess);
+            } catch (IllegalArgumentException e) {
+                recorder.rejectedGuesses++;
+            }
+        }
+        recorder.latencies.record(System.nanoTime() - start);
+        recorder.record(script, game);
+    }
+
+    // Compteurs d'un thread
+    private static final class Recorder {
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final long[] scoreBuckets = new long[32];
+        final List<String> mismatchSamples = new ArrayList<>();
+        long games;
+        long wins;
+        long rejectedGuesses;
+        long scoreMismatches;
+
+        void record(GameScript script, WordleGame game) {
+            games++;
+            if (game.isWon()) {
+                wins++;
+            }
+            scoreBuckets[Math.min(game.getScore() / 100, scoreBuckets.length - 1)]++;
+            if (game.isGameOver() && script.expectedScore() != null && script.expectedScore() != game.getScore()) {
+                scoreMismatches++;
+                if (mismatchSamples.size() < MAX_SAMPLES) {
+                    mismatchSamples.add(script.format() + " -> " + game.getScore());
+                }
+            }
+        }
+
+        void merge(Recorder other) {
+            latencies.merge(other.latencies);
+            for (int i = 0; i < scoreBuckets.length; i++) {
+                scoreBuckets[i] += other.scoreBuckets[i];
+            }
+            for (String sample : other.mismatchSamples) {
+                if (mismatchSamples.size() < MAX_SAMPLES) {
+                    mismatchSamples.add(sample);
+                }
+            }
+            games += other.games;
+            wins += other.wins;
+            rejectedGuesses += other.rejectedGuesses;
+            scoreMismatches += other.scoreMismatches;
+        }
+
+        Report report(long elapsedNanos) {
+            int last = scoreBuckets.length;
+            while (last > 0 && scoreBuckets[last - 1] == 0) {
+                last--;
+            }
+            return new Report(games, wins, rejectedGuesses, scoreMismatches, List.copyOf(mismatchSamples),
+                    elapsedNanos, latencies.percentile(0.50), latencies.percentile(0.90),
+                    latencies.percentile(0.99), latencies.percentile(0.999), latencies.max,
+                    Arrays.copyOf(scoreBuckets, last));
+        }
+    }
+
+    // Histogramme log-linéaire : 16 sous-tranches par puissance de 2 (erreur relative < 6,25 %)
+    static final class LatencyHistogram {
+        private static final int SUB_BITS = 4;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+
+        private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB_COUNT];
+        private long total;
+        private long max;
+
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            counts[indexOf(value)]++;
+            total++;
+            max = Math.max(max, value);
+        }
+
+        void merge(LatencyHistogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            total += other.total;
+            max = Math.max(max, other.max);
+        }
+
+        // Borne haute de la tranche contenant le quantile demandé
+        long percentile(double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        static int indexOf(long value) {
+            if (value < SUB_COUNT) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+            return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+        }
+
+        static long upperBound(int index) {
+            if (index < SUB_COUNT) {
+                return index;
+            }
+            int exponent = index / SUB_COUNT + SUB_BITS - 1;
+            long sub = index % SUB_COUNT;
+            long lower = (1L << exponent) | (sub << (exponent - SUB_BITS));
+            return lower + (1L << (exponent - SUB_BITS)) - 1;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GuessConstraints;
+import com.example.wordle.model.WordleGame;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Encodage compact d'une partie en un enregistrement binaire de taille fixe (pour une longueur
+// de mot donnée), pour garder beaucoup de sessions hors du tas ou les envoyer à un autre nœud.
+// Le mot cible et les essais sont stockés lettre par lettre (un octet ISO-8859-1 par lettre),
+// avec le nom du dictionnaire de la partie, les booléens dans un champ de bits. Le mot n'est pas
+// stocké par sa position dans le dictionnaire : une position ne vaut que pour une version d'une
+// liste, et les dictionnaires peuvent être rechargés pendant la partie.
+//
+// Disposition (entiers en big-endian) :
+//   0  version              1  longueur du mot       2  mode
+//   3  drapeaux             4  essais restants       5  nombre d'essais joués
+//   6  limite de temps (s, 2 octets)                 8  score (4 octets)
+//   12 début de partie (ns, horloge monotone du nœud, 8 octets)   20 identifiant UUID (16 octets)
+//   36 jour du mot du jour (epoch day, 4 octets)
+//   40 dictionnaire (1 octet de longueur + 15 octets ASCII)
+//   56 joueur (1 octet de longueur + 31 octets UTF-8)
+//   88 mot cible ("longueur" octets), puis MAX_GUESSES emplacements de "longueur" octets pour les essais
+// Les champs transitoires (candidats du solveur, échéance du mode chrono) ne sont pas encodés.
+// Les contraintes du mode difficile ne le sont pas non plus : elles sont recalculées au décodage
+// à partir du mot cible et des essais (au plus MAX_GUESSES).
+@Component
+public class GameStateCodec {
+
+    public static final int MAX_GUESSES = 10;
+    public static final int MAX_PLAYER_ID_BYTES = 31;
+    public static final int MAX_DICTIONARY_NAME_BYTES = 15;
+
+    private static final byte VERSION = 3;
+    private static final int DICTIONARY_OFFSET = 40;
+    private static final int PLAYER_OFFSET = 56;
+    private static final int HEADER_SIZE = 88;
+
+    private static final int GAME_OVER = 1;
+    private static final int WON = 1 << 1;
+    private static final int STRICT = 1 << 2;
+    private static final int DAILY = 1 << 3;
+    private static final int HAS_ID = 1 << 4;
+    private static final int HAS_PLAYER = 1 << 5;
+    private static final int HAS_DICTIONARY = 1 << 6;
+    private static final int HARD = 1 << 7;
+
+    // Taille de l'enregistrement d'une partie dont le mot fait length lettres
+    public static int recordSize(int length) {
+        return HEADER_SIZE + (1 + MAX_GUESSES) * length;
+    }
+
+    public byte[] encode(WordleGame game) {
+        byte[] record = new byte[recordSize(game.getWordLength())];
+        encode(game, ByteBuffer.wrap(record), 0);
+        return record;
+    }
+
+    // Écrit la partie à la position offset du buffer (recordSize(longueur) octets)
+    public void encode(WordleGame game, ByteBuffer buffer, int offset) {
+        int length = game.getWordLength();
+        if (game.getTargetWord() == null || game.getTargetWord().length() != length) {
+            throw new IllegalArgumentException("Mot cible de longueur invalide : partie non encodable.");
+        }
+        List<String> guesses = game.getGuesses();
+        if (guesses.size() > MAX_GUESSES) {
+            throw new IllegalArgumentException("Trop d'essais : partie non encodable.");
+        }
+        byte[] player = game.getPlayerId() == null ? null : game.getPlayerId().getBytes(StandardCharsets.UTF_8);
+        if (player != null && player.length > MAX_PLAYER_ID_BYTES) {
+            throw new IllegalArgumentException("Identifiant de joueur trop long (" + MAX_PLAYER_ID_BYTES + " octets max).");
+        }
+        byte[] dictionaryName = game.getDictionaryName() == null ? null
+                : game.getDictionaryName().getBytes(StandardCharsets.US_ASCII);
+        if (dictionaryName != null && dictionaryName.length > MAX_DICTIONARY_NAME_BYTES) {
+            throw new IllegalArgumentException("Nom de dictionnaire trop long : partie non encodable.");
+        }
+
+        int flags = (game.isGameOver() ? GAME_OVER : 0)
+                | (game.isWon() ? WON : 0)
+                | (game.isStrictDictionary() ? STRICT : 0)
+                | (game.getDailyDate() != null ? DAILY : 0)
+                | (game.getId() != null ? HAS_ID : 0)
+                | (player != null ? HAS_PLAYER : 0)
+                | (dictionaryName != null ? HAS_DICTIONARY : 0)
+                | (game.isHardMode() ? HARD : 0);
+
+        buffer.put(offset, VERSION);
+        buffer.put(offset + 1, (byte) length);
+        buffer.put(offset + 2, (byte) game.getMode());
+        buffer.put(offset + 3, (byte) flags);
+        buffer.put(offset + 4, (byte) game.getRemainingAttempts());
+        buffer.put(offset + 5, (byte) guesses.size());
+        buffer.putShort(offset + 6, (short) game.getTimeLimitSeconds());
+        buffer.putInt(offset + 8, game.getScore());
+        buffer.putLong(offset + 12, game.getStartNanos());
+        UUID id = game.getId() == null ? null : UUID.fromString(game.getId());
+        buffer.putLong(offset + 20, id == null ? 0 : id.getMostSignificantBits());
+        buffer.putLong(offset + 28, id == null ? 0 : id.getLeastSignificantBits());
+        buffer.putInt(offset + 36, game.getDailyDate() == null ? 0 : (int) game.getDailyDate().toEpochDay());
+        putBytes(buffer, offset + DICTIONARY_OFFSET, dictionaryName, MAX_DICTIONARY_NAME_BYTES);
+        putBytes(buffer, offset + PLAYER_OFFSET, player, MAX_PLAYER_ID_BYTES);
+
+        int slot = offset + HEADER_SIZE;
+        putWord(buffer, slot, game.getTargetWord(), length);
+        for (int g = 0; g < MAX_GUESSES; g++) {
+            slot += length;
+            String guess = g < guesses.size() ? guesses.get(g) : null;
+            if (guess != null && guess.length() != length) {
+                throw new IllegalArgumentException("Essai de longueur invalide : partie non encodable.");
+            }
+            putWord(buffer, slot, guess, length);
+        }
+    }
+
+    // Champ de taille fixe : 1 octet de longueur puis max octets (complétés par des zéros)
+    private static void putBytes(ByteBuffer buffer, int position, byte[] value, int max) {
+        buffer.put(position, (byte) (value == null ? 0 : value.length));
+        for (int i = 0; i < max; i++) {
+            buffer.put(position + 1 + i, value != null && i < value.length ? value[i] : 0);
+        }
+    }
+
+    // Mot lettre par lettre en ISO-8859-1 ; null laisse l'emplacement à zéro
+    private static void putWord(ByteBuffer buffer, int position, String word, int length) {
+        for (int p = 0; p < length; p++) {
+            char c = word == null ? 0 : word.charAt(p);
+            if (c > 0xFF) {
+                throw new IllegalArgumentException("Lettre non encodable : " + c);
+            }
+            buffer.put(position + p, (byte) c);
+        }
+    }
+
+    public WordleGame decode(byte[] record) {
+        return decode(ByteBuffer.wrap(record), 0);
+    }
+
+    // Reconstruit la partie enregistrée à la position offset du buffer
+    public WordleGame decode(ByteBuffer buffer, int offset) {
+        if (buffer.get(offset) != VERSION) {
+            throw new IllegalStateException("Format de partie non reconnu.");
+        }
+        int length = buffer.get(offset + 1) & 0xFF;
+        int flags = buffer.get(offset + 3) & 0xFF;
+        int guessCount = buffer.get(offset + 5) & 0xFF;
+
+        WordleGame game = new WordleGame();
+        game.setWordLength(length);
+        game.setMode(buffer.get(offset + 2));
+        game.setGameOver((flags & GAME_OVER) != 0);
+        game.setWon((flags & WON) != 0);
+        game.setStrictDictionary((flags & STRICT) != 0);
+        game.setRemainingAttempts(buffer.get(offset + 4));
+        game.setTimeLimitSeconds(buffer.getShort(offset + 6) & 0xFFFF);
+        game.setScore(buffer.getInt(offset + 8));
+        game.setStartNanos(buffer.getLong(offset + 12));
+        if ((flags & HAS_ID) != 0) {
+            game.setId(new UUID(buffer.getLong(offset + 20), buffer.getLong(offset + 28)).toString());
+        }
+        if ((flags & DAILY) != 0) {
+            game.setDailyDate(LocalDate.ofEpochDay(buffer.getInt(offset + 36)));
+        }
+        if ((flags & HAS_DICTIONARY) != 0) {
+            game.setDictionaryName(getString(buffer, offset + DICTIONARY_OFFSET, StandardCharsets.US_ASCII));
+        }
+        if ((flags & HAS_PLAYER) != 0) {
+            game.setPlayerId(getString(buffer, offset + PLAYER_OFFSET, StandardCharsets.UTF_8));
+        }
+
+        byte[] word = new byte[length];
+        buffer.get(offset + HEADER_SIZE, word);
+        game.setTargetWord(new String(word, StandardCharsets.ISO_8859_1));
+        List<String> guesses = new ArrayList<>(Math.max(guessCount, 6));
+        for (int g = 0; g < guessCount; g++) {
+            buffer.get(offset + HEADER_SIZE + (g + 1) * length, word);
+            guesses.add(new String(word, StandardCharsets.ISO_8859_1));
+        }
+        game.setGuesses(guesses);
+        if ((flags & HARD) != 0) {
+            GuessConstraints constraints = new GuessConstraints(length);
+            for (String guess : guesses) {
+                constraints.apply(guess, FeedbackEngine.score(guess, game.getTargetWord()));
+            }
+            game.setConstraints(constraints);
+        }
+        return game;
+    }
+
+    private static String getString(ByteBuffer buffer, int position, Charset charset) {
+        byte[] bytes = new byte[buffer.get(position) & 0xFF];
+        buffer.get(position + 1, bytes);
+        return new String(bytes, charset);
+    }
+}
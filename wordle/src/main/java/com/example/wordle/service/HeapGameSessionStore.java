@@ -0,0 +1,142 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Sessions gardées dans le tas sous forme d'objets WordleGame (backend par défaut)
+@Component
+@ConditionalOnProperty(name = "wordle.sessions.backend", havingValue = "heap", matchIfMissing = true)
+public class HeapGameSessionStore implements GameSessionStore {
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public HeapGameSessionStore(@Value("${wordle.sessions.max:50000}") int maxSessions,
+                                @Value("${wordle.sessions.idle-timeout:30m}") Duration idleTimeout) {
+        this(maxSessions, idleTimeout, System::nanoTime);
+        // Balayage périodique des sessions inactives
+        long period = Math.max(1, idleTimeout.toSeconds() / 4);
+        sweeper.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    public HeapGameSessionStore(int maxSessions, Duration idleTimeout, LongSupplier nanoClock) {
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public boolean add(WordleGame game) {
+        if (!reserveSlot()) {
+            evictIdle();
+            if (!reserveSlot()) {
+                return false;
+            }
+        }
+        if (game.getId() == null) {
+            game.setId(UUID.randomUUID().toString());
+        }
+        if (sessions.putIfAbsent(game.getId(), new Session(game, nanoClock.getAsLong())) != null) {
+            size.decrementAndGet();
+            throw new IllegalArgumentException("Partie déjà enregistrée : " + game.getId());
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<WordleGame> get(String id) {
+        Session session = sessions.get(id);
+        if (session == null) {
+            return Optional.empty();
+        }
+        session.lastAccessNanos = nanoClock.getAsLong();
+        return Optional.of(session.game);
+    }
+
+    // Les parties sont partagées : l'action s'exécute sous le verrou de la partie
+    @Override
+    public <T> Optional<T> update(String id, Function<WordleGame, T> action) {
+        return get(id).map(game -> {
+            synchronized (game) {
+                return action.apply(game);
+            }
+        });
+    }
+
+    @Override
+    public void remove(String id) {
+        if (sessions.remove(id) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (now - entry.getValue().lastAccessNanos >= idleTimeoutNanos
+                    && sessions.remove(entry.getKey(), entry.getValue())) {
+                size.decrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= maxSessions) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private static final class Session {
+        private final WordleGame game;
+        private volatile long lastAccessNanos;
+
+        private Session(WordleGame game, long lastAccessNanos) {
+            this.game = game;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.wordle.service;
+
+import java.util.Locale;
+
+// Mise en majuscules des mots des dictionnaires et des essais (ISO-8859-1), la même partout et
+// sans dépendre de la locale du serveur : a-z et à-þ (sauf ÷) deviennent A-Z et À-Þ. ß, ÿ et µ
+// restent tels quels, car leur majuscule ("SS", Ÿ, Μ) changerait la longueur du mot ou sortirait
+// de Latin-1. Les autres caractères sont laissés tels quels.
+public final class Latin1 {
+
+    private Latin1() {
+    }
+
+    // Lettre acceptée dans un mot : [A-Za-zÀ-ÖØ-öø-ÿ]
+    public static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
+                || (c >= '\u00C0' && c <= '\u00FF' && c != '\u00D7' && c != '\u00F7');
+    }
+
+    // Mot en majuscules : le même objet s'il n'y a rien à changer, sinon une seule copie
+    public static String toUpperCase(String word) {
+        boolean lower = false;
+        boolean plain = true; // Pas de caractère dont toUpperCase(Locale.ROOT) sortirait de Latin-1
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            lower |= isLower(c);
+            plain &= c <= 0xFF && c != '\u00DF' && c != '\u00FF' && c != '\u00B5';
+        }
+        if (!lower) {
+            return word;
+        }
+        if (plain) {
+            return word.toUpperCase(Locale.ROOT);
+        }
+        // a-z et à-þ : la majuscule est 32 positions plus bas
+        char[] upper = word.toCharArray();
+        for (int i = 0; i < upper.length; i++) {
+            if (isLower(upper[i])) {
+                upper[i] -= 32;
+            }
+        }
+        return new String(upper);
+    }
+
+    private static boolean isLower(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '\u00E0' && c <= '\u00FE' && c != '\u00F7');
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.repository.GameRecordRepository;
+import com.example.wordle.repository.PlayerStatsRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// Statistiques par joueur, historique et classements.
+// Les lectures passent par des requêtes indexées (pas de parcours complet des tables) ;
+// elles reflètent les parties écrites en base, donc avec au plus un cycle d'écriture de retard.
+@Service
+@Transactional(readOnly = true)
+public class LeaderboardService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final GameRecordRepository gameRecordRepository;
+
+    public LeaderboardService(PlayerStatsRepository playerStatsRepository,
+                              GameRecordRepository gameRecordRepository) {
+        this.playerStatsRepository = playerStatsRepository;
+        this.gameRecordRepository = gameRecordRepository;
+    }
+
+    // Les N meilleurs joueurs par score cumulé
+    public List<PlayerStats> topByScore(int limit) {
+        return playerStatsRepository.findByOrderByTotalScoreDesc(PageRequest.of(0, clamp(limit)));
+    }
+
+    // Les N meilleurs joueurs par meilleure série de victoires
+    public List<PlayerStats> topByStreak(int limit) {
+        return playerStatsRepository.findByOrderByBestStreakDesc(PageRequest.of(0, clamp(limit)));
+    }
+
+    public Optional<PlayerStats> playerStats(String playerId) {
+        return playerStatsRepository.findByPlayerId(playerId);
+    }
+
+    // Dernières parties d'un joueur pour un mode et une longueur de mot
+    public List<GameRecord> history(String playerId, int mode, int wordLength, int limit) {
+        return gameRecordRepository.findByPlayerIdAndModeAndWordLengthOrderByFinishedAtDesc(
+                playerId, mode, wordLength, PageRequest.of(0, clamp(limit)));
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
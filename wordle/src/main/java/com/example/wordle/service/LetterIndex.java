@@ -0,0 +1,182 @@
+package com.example.wordle.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Index inversé des mots d'un bucket (une longueur) pour les recherches par motif :
+// pour chaque (position, lettre), l'ensemble des mots ayant cette lettre à cette position, et pour
+// chaque lettre et chaque k, l'ensemble des mots la contenant au moins k fois. Les ensembles sont
+// des bitsets (un bit par mot du bucket, dans l'ordre du bucket) ; une recherche n'est qu'une suite
+// de ET / ET NON mot à mot sur des long[] de taille mots / 64, sans parcourir les mots eux-mêmes.
+// L'index est immuable : il est reconstruit avec le bucket quand le dictionnaire change.
+public final class LetterIndex {
+
+    private static final int ALPHABET = 26;
+
+    private final byte[] bucket;
+    private final int length;
+    private final int size;
+    private final long[] all; // Tous les mots du bucket
+    private final long[][] positions; // [position * 26 + lettre], null : aucun mot
+    private final long[][][] counts; // [lettre][k - 1] : mots contenant la lettre au moins k fois
+
+    private LetterIndex(byte[] bucket, int length) {
+        this.bucket = bucket;
+        this.length = length;
+        this.size = bucket.length / length;
+        int longs = (size + 63) >>> 6;
+        this.all = new long[longs];
+        for (int i = 0; i < size; i++) {
+            all[i >>> 6] |= 1L << i;
+        }
+        this.positions = new long[length * ALPHABET][];
+        this.counts = new long[ALPHABET][length][];
+
+        int[] letters = new int[ALPHABET];
+        for (int word = 0, offset = 0; word < size; word++, offset += length) {
+            long bit = 1L << word;
+            int slot = word >>> 6;
+            for (int p = 0; p < length; p++) {
+                int c = bucket[offset + p] - 'A';
+                if (c < 0 || c >= ALPHABET) {
+                    continue;
+                }
+                letters[c]++;
+                long[] set = positions[p * ALPHABET + c];
+                if (set == null) {
+                    set = positions[p * ALPHABET + c] = new long[longs];
+                }
+                set[slot] |= bit;
+            }
+            for (int p = 0; p < length; p++) {
+                int c = bucket[offset + p] - 'A';
+                if (c < 0 || c >= ALPHABET || letters[c] == 0) {
+                    continue;
+                }
+                // Chaque lettre n'est comptée qu'une fois par mot
+                for (int k = 0; k < letters[c]; k++) {
+                    long[] set = counts[c][k];
+                    if (set == null) {
+                        set = counts[c][k] = new long[longs];
+                    }
+                    set[slot] |= bit;
+                }
+                letters[c] = 0;
+            }
+        }
+    }
+
+    // bucket : mots en majuscules ISO-8859-1, bout à bout (voir DictionaryRegistry.Dictionary.bucket)
+    public static LetterIndex of(byte[] bucket, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Longueur invalide : " + length);
+        }
+        return new LetterIndex(bucket, length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Mots correspondant au motif (une lettre ou ? _ . par position, null ou vide = tous les mots),
+    // contenant les lettres de contains (une lettre répétée doit apparaître autant de fois) et
+    // aucune des lettres de excludes. Renvoie l'ensemble des positions dans le bucket.
+    public long[] match(String pattern, String contains, String excludes) {
+        long[] result = all.clone();
+        if (pattern != null && !pattern.isEmpty()) {
+            if (pattern.length() != length) {
+                throw new IllegalArgumentException("Motif invalide (doit faire " + length + " caractères).");
+            }
+            for (int p = 0; p < length; p++) {
+                char ch = pattern.charAt(p);
+                if (ch == '?' || ch == '_' || ch == '.') {
+                    continue;
+                }
+                and(result, positions[p * ALPHABET + letter(ch, "le motif")]);
+            }
+        }
+        if (contains != null && !contains.isEmpty()) {
+            int[] required = new int[ALPHABET];
+            for (int i = 0; i < contains.length(); i++) {
+                required[letter(contains.charAt(i), "les lettres présentes")]++;
+            }
+            for (int c = 0; c < ALPHABET; c++) {
+                if (required[c] > 0) {
+                    and(result, required[c] <= length ? counts[c][required[c] - 1] : null);
+                }
+            }
+        }
+        if (excludes != null) {
+            for (int i = 0; i < excludes.length(); i++) {
+                andNot(result, counts[letter(excludes.charAt(i), "les lettres exclues")][0]);
+            }
+        }
+        return result;
+    }
+
+    // Nombre de mots d'un résultat de match()
+    public static int count(long[] matches) {
+        int count = 0;
+        for (long bits : matches) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    // Mots d'un résultat de match(), dans l'ordre du bucket, à partir du offset-ième
+    public List<String> words(long[] matches, int offset, int limit) {
+        List<String> words = new ArrayList<>(Math.min(limit, 64));
+        for (int slot = 0; slot < matches.length && words.size() < limit; slot++) {
+            long bits = matches[slot];
+            int bitCount = Long.bitCount(bits);
+            // Les blocs entièrement avant offset sont sautés sans parcourir leurs bits
+            if (offset >= bitCount) {
+                offset -= bitCount;
+                continue;
+            }
+            while (bits != 0 && words.size() < limit) {
+                int word = (slot << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (offset > 0) {
+                    offset--;
+                } else {
+                    words.add(new String(bucket, word * length, length, StandardCharsets.ISO_8859_1));
+                }
+            }
+        }
+        return words;
+    }
+
+    private static void and(long[] result, long[] set) {
+        if (set == null) {
+            Arrays.fill(result, 0);
+            return;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= set[i];
+        }
+    }
+
+    private static void andNot(long[] result, long[] set) {
+        if (set == null) {
+            return;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= ~set[i];
+        }
+    }
+
+    private static int letter(char ch, String where) {
+        int c = Character.toUpperCase(ch) - 'A';
+        if (c < 0 || c >= ALPHABET) {
+            throw new IllegalArgumentException("Caractère invalide dans " + where + " : " + ch);
+        }
+        return c;
+    }
+}
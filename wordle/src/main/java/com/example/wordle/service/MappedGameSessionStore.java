@@ -0,0 +1,317 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Sessions gardées hors du tas : chaque partie occupe un emplacement de taille fixe
+// (enregistrement GameStateCodec) dans un buffer direct, ou dans un fichier projeté en mémoire
+// si wordle.sessions.file est renseigné. Le tas ne garde que l'index id -> emplacement et
+// un tableau de dates d'accès, ce qui garde des pauses GC plates avec beaucoup de sessions.
+// Avec un fichier, un nœud redémarré retrouve les parties en cours (et leurs échéances chrono).
+// Les débuts de partie sont datés par l'horloge monotone du service, qui repart de zéro à chaque
+// démarrage : l'en-tête garde une correspondance date système / horloge monotone, et seule la
+// reprise passe par la date système pour recaler les parties sur l'horloge du nouveau processus.
+@Component
+@ConditionalOnProperty(name = "wordle.sessions.backend", havingValue = "mapped")
+public class MappedGameSessionStore implements GameSessionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedGameSessionStore.class);
+
+    private static final int MAGIC = 0x57534553; // "WSES"
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_OFFSET = 8; // Octet 0 de l'emplacement : libre / occupé
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+    private static final int LOCK_STRIPES = 1024;
+
+    private final WordleService wordleService;
+    private final GameStateCodec codec;
+    private final int capacity;
+    private final int slotSize;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final ByteBuffer buffer;
+    private final FileChannel channel; // null : buffer direct, sans reprise au redémarrage
+
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+    private final AtomicLongArray lastAccessNanos;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final int[] freeSlots;
+    private int freeCount; // Protégé par freeSlots
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public MappedGameSessionStore(WordleService wordleService, GameStateCodec codec,
+                                  @Value("${wordle.sessions.max:50000}") int maxSessions,
+                                  @Value("${wordle.sessions.idle-timeout:30m}") Duration idleTimeout,
+                                  @Value("${wordle.sessions.file:}") String file) {
+        this(wordleService, codec, maxSessions, idleTimeout, file.isBlank() ? null : Path.of(file), System::nanoTime);
+        long period = Math.max(1, idleTimeout.toSeconds() / 4);
+        sweeper.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    public MappedGameSessionStore(WordleService wordleService, GameStateCodec codec, int maxSessions,
+                                  Duration idleTimeout, Path file, LongSupplier nanoClock) {
+        this.wordleService = wordleService;
+        this.codec = codec;
+        this.capacity = maxSessions;
+        this.slotSize = (RECORD_OFFSET + GameStateCodec.recordSize(wordleService.getDictionaries().getMaxLength()) + 7) & ~7;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastAccessNanos = new AtomicLongArray(capacity);
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+
+        long size = HEADER_SIZE + (long) capacity * slotSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Trop de sessions pour un seul buffer : " + maxSessions);
+        }
+        if (file == null) {
+            this.channel = null;
+            this.buffer = ByteBuffer.allocateDirect((int) size);
+            writeHeader();
+            releaseAll();
+        } else {
+            try {
+                this.channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                boolean existing = channel.size() > 0;
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (existing) {
+                    recover(file);
+                } else {
+                    writeHeader();
+                    releaseAll();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Impossible d'ouvrir le fichier de sessions " + file, e);
+            }
+        }
+    }
+
+    @Override
+    public boolean add(WordleGame game) {
+        // Un dictionnaire rechargé peut apporter des mots plus longs que prévu au démarrage
+        if (RECORD_OFFSET + GameStateCodec.recordSize(game.getWordLength()) > slotSize) {
+            throw new IllegalArgumentException("Mot trop long pour les sessions hors du tas : " + game.getWordLength() + " lettres.");
+        }
+        int slot = allocate();
+        if (slot < 0) {
+            evictIdle();
+            slot = allocate();
+            if (slot < 0) {
+                return false;
+            }
+        }
+        if (game.getId() == null) {
+            game.setId(UUID.randomUUID().toString());
+        }
+        String id = game.getId();
+        synchronized (lock(slot)) {
+            try {
+                codec.encode(game, buffer, offset(slot) + RECORD_OFFSET);
+            } catch (RuntimeException e) {
+                release(slot);
+                throw e;
+            }
+            buffer.put(offset(slot), USED);
+            lastAccessNanos.set(slot, nanoClock.getAsLong());
+            if (index.putIfAbsent(id, slot) != null) {
+                buffer.put(offset(slot), FREE);
+                release(slot);
+                throw new IllegalArgumentException("Partie déjà enregistrée : " + id);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<WordleGame> get(String id) {
+        return update(id, Function.identity(), false);
+    }
+
+    @Override
+    public <T> Optional<T> update(String id, Function<WordleGame, T> action) {
+        return update(id, action, true);
+    }
+
+    private <T> Optional<T> update(String id, Function<WordleGame, T> action, boolean write) {
+        Integer slot = index.get(id);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        synchronized (lock(slot)) {
+            // L'emplacement a pu être libéré (et réattribué) entre-temps
+            if (!Objects.equals(index.get(id), slot)) {
+                return Optional.empty();
+            }
+            lastAccessNanos.set(slot, nanoClock.getAsLong());
+            WordleGame game = codec.decode(buffer, offset(slot) + RECORD_OFFSET);
+            try {
+                return Optional.ofNullable(action.apply(game));
+            } finally {
+                // Même en cas d'erreur : la partie a pu changer (ex. "Temps écoulé !" la termine)
+                if (write) {
+                    codec.encode(game, buffer, offset(slot) + RECORD_OFFSET);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        Integer slot = index.remove(id);
+        if (slot != null) {
+            clear(slot);
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, Integer> entry : index.entrySet()) {
+            int slot = entry.getValue();
+            if (now - lastAccessNanos.get(slot) >= idleTimeoutNanos && index.remove(entry.getKey(), slot)) {
+                clear(slot);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        if (channel != null) {
+            ((MappedByteBuffer) buffer).force();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Échec de la fermeture du fichier de sessions", e);
+            }
+        }
+    }
+
+    private void expire(String id) {
+        update(id, wordleService::expire);
+    }
+
+    // Reprise après redémarrage : les emplacements occupés redeviennent des sessions
+    private void recover(Path file) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != capacity || buffer.getInt(12) != slotSize) {
+            throw new IllegalStateException("Fichier de sessions incompatible : " + file);
+        }
+        long now = nanoClock.getAsLong();
+        // Décalage entre l'horloge monotone de l'ancien processus et celle de celui-ci
+        long shift = wordleService.nanoTime() - buffer.getLong(24)
+                - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - buffer.getLong(16));
+        for (int slot = capacity - 1; slot >= 0; slot--) {
+            if (buffer.get(offset(slot)) != USED) {
+                release(slot);
+                continue;
+            }
+            try {
+                WordleGame game = codec.decode(buffer, offset(slot) + RECORD_OFFSET);
+                game.setStartNanos(game.getStartNanos() + shift);
+                codec.encode(game, buffer, offset(slot) + RECORD_OFFSET);
+                String id = game.getId();
+                index.put(id, slot);
+                lastAccessNanos.set(slot, now);
+                wordleService.scheduleExpiry(game, () -> expire(id));
+            } catch (RuntimeException e) {
+                log.warn("Session illisible ignorée (emplacement {})", slot, e);
+                buffer.put(offset(slot), FREE);
+                release(slot);
+            }
+        }
+        writeClockBase();
+        log.info("{} partie(s) en cours reprise(s) depuis {}", index.size(), file);
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, slotSize);
+        writeClockBase();
+    }
+
+    // Date système et horloge monotone du service au même instant (voir recover)
+    private void writeClockBase() {
+        buffer.putLong(16, System.currentTimeMillis());
+        buffer.putLong(24, wordleService.nanoTime());
+    }
+
+    private void releaseAll() {
+        for (int slot = capacity - 1; slot >= 0; slot--) {
+            release(slot);
+        }
+    }
+
+    private void clear(int slot) {
+        synchronized (lock(slot)) {
+            buffer.put(offset(slot), FREE);
+        }
+        release(slot);
+    }
+
+    private int allocate() {
+        synchronized (freeSlots) {
+            return freeCount == 0 ? -1 : freeSlots[--freeCount];
+        }
+    }
+
+    private void release(int slot) {
+        synchronized (freeSlots) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    private Object lock(int slot) {
+        return locks[slot & (LOCK_STRIPES - 1)];
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * slotSize;
+    }
+}
@@ -0,0 +1,431 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+// Courses : plusieurs joueurs cherchent le même mot, chacun avec sa propre partie, et la
+// progression de chacun (numéro d'essai et feedback, jamais les lettres) est diffusée aux abonnés
+// de la salle.
+// Un essai ne fait que déposer sa progression dans la file de la salle. Un thread de diffusion
+// regroupe à intervalle fixe tout ce qui est arrivé dans chaque salle en un seul message, sérialisé
+// une fois, puis le dépose dans la file bornée de chaque abonné. Les envois sont faits par un pool de
+// threads, un seul à la fois par abonné : un client lent ne ralentit ni le jeu ni les autres.
+// Quand la file d'un abonné déborde, les messages en attente sont remplacés par l'état courant de
+// la salle ; si son envoi est bloqué depuis trop longtemps, il est déconnecté.
+@Service
+public class RaceRooms implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RaceRooms.class);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final WordleService wordleService;
+    private final int queueSize;
+    private final long sendTimeLimitNanos;
+    private final long idleTimeoutNanos;
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final Queue<Room> pending = new ConcurrentLinkedQueue<>(); // Salles ayant des progressions à diffuser
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService senders;
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Progression d'un joueur : attempt = essais joués (0 à l'arrivée dans la salle), pattern = feedback
+    // du dernier essai (voir FeedbackEngine.render), rank = ordre d'arrivée des gagnants (0 sinon)
+    public record Progress(String playerId, int attempt, String pattern, boolean finished, boolean won, int rank) {
+    }
+
+    // Message envoyé aux abonnés : progressions arrivées depuis le message précédent
+    public record Batch(String room, List<Progress> progress) {
+    }
+
+    // Destinataire des messages d'une salle (une connexion WebSocket) ; send() n'est jamais appelé
+    // par deux threads à la fois pour un même abonné
+    public interface Subscriber {
+        void send(String message) throws IOException;
+
+        void close();
+    }
+
+    public final class Room {
+
+        private final String id;
+        private final String dictionaryName;
+        private final String targetWord;
+        private final boolean strictDictionary;
+        private final Map<String, WordleGame> players = new ConcurrentHashMap<>();
+        private final Map<String, Progress> latest = new ConcurrentHashMap<>();
+        private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+        private final Queue<Progress> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private final AtomicInteger winners = new AtomicInteger();
+        private volatile long lastActivity = System.nanoTime();
+
+        private Room(String id, String dictionaryName, String targetWord, boolean strictDictionary) {
+            this.id = id;
+            this.dictionaryName = dictionaryName;
+            this.targetWord = targetWord;
+            this.strictDictionary = strictDictionary;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getDictionaryName() {
+            return dictionaryName;
+        }
+
+        public int getWordLength() {
+            return targetWord.length();
+        }
+
+        public boolean isStrictDictionary() {
+            return strictDictionary;
+        }
+
+        public int getSubscriberCount() {
+            return connections.size();
+        }
+
+        // Dernière progression connue de chaque joueur
+        public List<Progress> progress() {
+            return List.copyOf(latest.values());
+        }
+
+        private void publish(Progress progress) {
+            lastActivity = System.nanoTime();
+            latest.put(progress.playerId(), progress);
+            outbox.add(progress);
+            if (queued.compareAndSet(false, true)) {
+                pending.add(this);
+            }
+        }
+
+        private String snapshot() {
+            return json(new Batch(id, progress()));
+        }
+    }
+
+    // Abonné d'une salle et sa file de messages en attente d'envoi
+    public final class Connection {
+
+        private final Room room;
+        private final Subscriber subscriber;
+        private final ArrayDeque<String> queue = new ArrayDeque<>(); // Protégée par son propre verrou
+        private boolean sending; // Une tâche d'envoi est en cours ou programmée
+        private volatile long sendStart; // Début de l'envoi en cours (System.nanoTime)
+        private volatile boolean closed;
+
+        private Connection(Room room, Subscriber subscriber) {
+            this.room = room;
+            this.subscriber = subscriber;
+        }
+
+        private void offer(String message) {
+            boolean start;
+            boolean stuck = false;
+            synchronized (queue) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= queueSize) {
+                    // Client en retard : l'état courant remplace ce qu'il n'a pas encore reçu
+                    stuck = sending && System.nanoTime() - sendStart > sendTimeLimitNanos;
+                    dropped.addAndGet(queue.size() + 1);
+                    queue.clear();
+                    queue.add(room.snapshot());
+                } else {
+                    queue.add(message);
+                }
+                start = !sending;
+                if (start) {
+                    sending = true;
+                    sendStart = System.nanoTime();
+                }
+            }
+            if (stuck) {
+                log.warn("Abonné de la course {} déconnecté : envoi bloqué depuis plus de {} ms",
+                        room.id, TimeUnit.NANOSECONDS.toMillis(sendTimeLimitNanos));
+                close();
+            } else if (start) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                String message;
+                synchronized (queue) {
+                    message = closed ? null : queue.poll();
+                    if (message == null) {
+                        sending = false;
+                        return;
+                    }
+                    sendStart = System.nanoTime();
+                }
+                try {
+                    subscriber.send(message);
+                    sent.incrementAndGet();
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Envoi impossible à un abonné de la course {}", room.id, e);
+                    close();
+                    return;
+                }
+            }
+        }
+
+        // Désabonne et ferme la connexion (sans effet si c'est déjà fait)
+        public void close() {
+            synchronized (queue) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            room.connections.remove(this);
+            subscriber.close();
+        }
+    }
+
+    @Autowired
+    public RaceRooms(WordleService wordleService,
+                     @Value("${wordle.races.batch-interval:20ms}") Duration batchInterval,
+                     @Value("${wordle.races.queue-size:64}") int queueSize,
+                     @Value("${wordle.races.send-time-limit:5s}") Duration sendTimeLimit,
+                     @Value("${wordle.races.senders:8}") int senders,
+                     @Value("${wordle.races.idle-timeout:30m}") Duration idleTimeout) {
+        this(wordleService, batchInterval, queueSize, sendTimeLimit, senders, idleTimeout, true);
+        FunctionCounter.builder("wordle.races.messages.sent", this, RaceRooms::sent)
+                .description("Messages de course envoyés aux abonnés")
+                .register(wordleService.getMetrics().getRegistry());
+        FunctionCounter.builder("wordle.races.messages.dropped", this, RaceRooms::dropped)
+                .description("Messages de course remplacés par l'état de la salle (abonné en retard)")
+                .register(wordleService.getMetrics().getRegistry());
+        Gauge.builder("wordle.races.rooms", rooms, Map::size)
+                .description("Courses en cours")
+                .register(wordleService.getMetrics().getRegistry());
+    }
+
+    public RaceRooms(WordleService wordleService, Duration batchInterval, int queueSize, Duration sendTimeLimit,
+                     int senders, Duration idleTimeout, boolean started) {
+        if (queueSize < 1 || senders < 1) {
+            throw new IllegalArgumentException("Taille de file et nombre de threads d'envoi doivent être positifs.");
+        }
+        this.wordleService = wordleService;
+        this.queueSize = queueSize;
+        this.sendTimeLimitNanos = sendTimeLimit.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senders, task -> {
+            Thread thread = new Thread(task, "wordle-race-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "wordle-race-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (started) {
+            long interval = Math.max(1, batchInterval.toNanos());
+            dispatcher.scheduleWithFixedDelay(this::dispatchSafely, interval, interval, TimeUnit.NANOSECONDS);
+            long sweep = Math.max(interval, Math.min(idleTimeoutNanos, TimeUnit.MINUTES.toNanos(1)));
+            dispatcher.scheduleWithFixedDelay(this::evictIdle, sweep, sweep, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Ouvre une course sur un mot tiré du dictionnaire nommé (null = dictionnaire par défaut)
+    public Room create(String id, String dictionaryName, int length, boolean strictDictionary) {
+        DictionaryRegistry.Dictionary dictionary = wordleService.getDictionaries().get(dictionaryName);
+        String target = wordleService.getDifficulty().pick(dictionary, length, null);
+        Room room = new Room(id, dictionaryName, target, strictDictionary);
+        if (rooms.putIfAbsent(id, room) != null) {
+            throw new IllegalStateException("Course déjà existante : " + id);
+        }
+        return room;
+    }
+
+    public Optional<Room> get(String id) {
+        return Optional.ofNullable(rooms.get(id));
+    }
+
+    // Ajoute un joueur à la course (ou renvoie sa partie s'il y est déjà)
+    public WordleGame join(String roomId, String playerId) {
+        Room room = room(roomId);
+        if (playerId == null || playerId.isBlank()) {
+            throw new IllegalArgumentException("Identifiant de joueur obligatoire.");
+        }
+        if (playerId.getBytes(StandardCharsets.UTF_8).length > GameStateCodec.MAX_PLAYER_ID_BYTES) {
+            throw new IllegalArgumentException(
+                    "Identifiant de joueur trop long (" + GameStateCodec.MAX_PLAYER_ID_BYTES + " octets max).");
+        }
+        WordleGame created = null;
+        WordleGame game = room.players.get(playerId);
+        if (game == null) {
+            created = wordleService.startGame(room.targetWord, 1, room.strictDictionary);
+            created.setId(UUID.randomUUID().toString());
+            created.setPlayerId(playerId);
+            created.setDictionaryName(room.dictionaryName);
+            game = room.players.putIfAbsent(playerId, created);
+        }
+        if (game == null) {
+            room.publish(new Progress(playerId, 0, null, false, false, 0));
+            return created;
+        }
+        return game;
+    }
+
+    // Joue l'essai d'un joueur et publie sa progression ; result reçoit la partie et le feedback
+    // encodé, sous le verrou de la partie
+    public <T> T guess(String roomId, String playerId, String guess, BiFunction<WordleGame, Long, T> result) {
+        Room room = room(roomId);
+        WordleGame game = room.players.get(playerId);
+        if (game == null) {
+            throw new IllegalArgumentException("Joueur absent de la course : " + playerId);
+        }
+        synchronized (game) {
+            if (game.isGameOver()) {
+                throw new IllegalStateException("La partie est terminée.");
+            }
+            long pattern = wordleService.scoreGuess(game, guess);
+            int rank = game.isWon() ? room.winners.incrementAndGet() : 0;
+            room.publish(new Progress(playerId, game.getGuesses().size(),
+                    FeedbackEngine.render(pattern, game.getWordLength()), game.isGameOver(), game.isWon(), rank));
+            return result.apply(game, pattern);
+        }
+    }
+
+    // Abonne un destinataire aux progressions de la salle ; il reçoit d'abord l'état courant.
+    // Renvoie null si la course n'existe pas.
+    public Connection subscribe(String roomId, Subscriber subscriber) {
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        room.lastActivity = System.nanoTime();
+        Connection connection = new Connection(room, subscriber);
+        room.connections.add(connection);
+        connection.offer(room.snapshot());
+        return connection;
+    }
+
+    // Diffuse les progressions en attente (appelé par le thread de diffusion, ou à la main)
+    public void dispatch() {
+        Room room;
+        List<Progress> progress = new ArrayList<>();
+        while ((room = pending.poll()) != null) {
+            // Remis à false avant de vider la file : une progression arrivée pendant la diffusion
+            // reprogramme la salle
+            room.queued.set(false);
+            Progress next;
+            while ((next = room.outbox.poll()) != null) {
+                progress.add(next);
+            }
+            if (progress.isEmpty()) {
+                continue;
+            }
+            String message = json(new Batch(room.id, List.copyOf(progress)));
+            progress.clear();
+            batches.incrementAndGet();
+            for (Connection connection : room.connections) {
+                connection.offer(message);
+            }
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Erreur lors de la diffusion des courses", e);
+        }
+    }
+
+    // Ferme les courses sans essai ni abonnement depuis idleTimeout
+    private void evictIdle() {
+        long now = System.nanoTime();
+        rooms.values().removeIf(room -> {
+            if (now - room.lastActivity < idleTimeoutNanos) {
+                return false;
+            }
+            room.connections.forEach(Connection::close);
+            return true;
+        });
+    }
+
+    public long batches() {
+        return batches.get();
+    }
+
+    public long sent() {
+        return sent.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        for (Room room : rooms.values()) {
+            room.connections.forEach(Connection::close);
+        }
+        rooms.clear();
+    }
+
+    private Room room(String id) {
+        Room room = rooms.get(id);
+        if (room == null) {
+            throw new IllegalArgumentException("Course introuvable : " + id);
+        }
+        return room;
+    }
+
+    private static String json(Batch batch) {
+        try {
+            return JSON.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
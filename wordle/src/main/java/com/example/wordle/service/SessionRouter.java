@@ -0,0 +1,80 @@
+package com.example.wordle.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Répartition des parties entre plusieurs nœuds par hachage cohérent de l'identifiant :
+// chaque nœud occupe VIRTUAL_NODES points d'un anneau, une partie appartient au premier nœud
+// rencontré après le hash de son identifiant. Ajouter ou retirer un nœud ne déplace
+// qu'environ 1/N des parties. Les nœuds créent des identifiants qui leur reviennent.
+// Sans nœuds configurés, le nœud courant possède toutes les parties.
+@Component
+public class SessionRouter {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private final String self;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    @Autowired
+    public SessionRouter(@Value("${wordle.cluster.self:}") String self,
+                         @Value("${wordle.cluster.nodes:}") String nodes) {
+        this(self, Arrays.stream(nodes.split(",")).map(String::trim).filter(n -> !n.isEmpty()).toList());
+    }
+
+    public SessionRouter(String self, List<String> nodes) {
+        if (!nodes.isEmpty() && !nodes.contains(self)) {
+            throw new IllegalArgumentException("Le nœud courant (" + self + ") doit faire partie de wordle.cluster.nodes.");
+        }
+        this.self = self;
+        for (String node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    // Nœud propriétaire de la partie (adresse de base, ex. http://hote:8080)
+    public String owner(String gameId) {
+        if (ring.isEmpty()) {
+            return self;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(gameId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isLocal(String gameId) {
+        return ring.isEmpty() || self.equals(owner(gameId));
+    }
+
+    // Nouvel identifiant de partie appartenant au nœud courant (N tirages en moyenne)
+    public String newLocalId() {
+        while (true) {
+            String id = UUID.randomUUID().toString();
+            if (isLocal(id)) {
+                return id;
+            }
+        }
+    }
+
+    // FNV-1a 64 bits, suivi d'un mélange final pour bien répartir les points sur l'anneau
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStatsDelta;
+import com.example.wordle.model.WordleGame;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Agrégation des statistiques en mémoire, sûre avec de nombreux threads écrivains.
+// Les compteurs sont répartis sur plusieurs cellules (une par groupe de threads) pour
+// éviter la contention ; une partie est toujours comptée en entier dans une seule cellule,
+// si bien qu'un instantané voit chaque partie soit complètement, soit pas du tout.
+// Les séries de victoires sont suivies par joueur, à part : un instantané est cohérent à terme.
+// La série est mise à jour avant les compteurs et lue après eux, donc un instantané ne montre
+// jamais une victoire sans sa série ; il peut en revanche montrer la série d'une partie encore
+// absente des compteurs. Les parties de chaque joueur et l'historique sont aussi gardés en
+// attente jusqu'à la prochaine écriture en base.
+public class StatsAccumulator {
+
+    public static final String DEFAULT_PLAYER = "local";
+
+    private final Cell[] cells;
+    private final int mask;
+    private final Map<String, Streak> streaks = new ConcurrentHashMap<>();
+    private final AtomicInteger bestStreak = new AtomicInteger();
+    private final Map<String, PlayerStatsDelta> pendingPlayers = new ConcurrentHashMap<>();
+    private final Queue<GameRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    private volatile Long statsId;
+
+    public StatsAccumulator() {
+        this(new GameStats());
+    }
+
+    // Reprend les valeurs persistées comme point de départ
+    public StatsAccumulator(GameStats initial) {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+        this.cells = new Cell[stripes];
+        for (int i = 0; i < stripes; i++) {
+            cells[i] = new Cell();
+        }
+        this.mask = stripes - 1;
+
+        Cell first = cells[0];
+        first.totalGames = initial.getTotalGames();
+        first.wins = initial.getWins();
+        first.totalAttempts = initial.getTotalAttempts();
+        first.totalScore = initial.getTotalScore();
+
+        Streak local = new Streak();
+        local.current = initial.getCurrentStreak();
+        local.best = initial.getBestStreak();
+        streaks.put(DEFAULT_PLAYER, local);
+        bestStreak.set(initial.getBestStreak());
+        statsId = initial.getId();
+    }
+
+    // Comptabilise une partie terminée
+    public void record(WordleGame game) {
+        // Série d'abord : voir l'ordre de lecture dans snapshot()
+        String player = game.getPlayerId() == null ? DEFAULT_PLAYER : game.getPlayerId();
+        int best = streaks.computeIfAbsent(player, p -> new Streak()).record(game.isWon());
+        bestStreak.accumulateAndGet(best, Math::max);
+
+        Cell cell = cells[(int) Thread.currentThread().getId() & mask];
+        synchronized (cell) {
+            cell.totalGames++;
+            cell.totalAttempts += game.getGuesses().size();
+            cell.totalScore += game.getScore();
+            if (game.isWon()) {
+                cell.wins++;
+            }
+        }
+
+        pendingPlayers.compute(player, (p, delta) -> {
+            PlayerStatsDelta d = delta == null ? new PlayerStatsDelta(p) : delta;
+            d.record(game);
+            return d;
+        });
+        pendingRecords.add(new GameRecord(player, game));
+    }
+
+    // Retire les parties par joueur en attente d'écriture
+    public Collection<PlayerStatsDelta> drainPlayerDeltas() {
+        List<PlayerStatsDelta> drained = new ArrayList<>();
+        for (String player : pendingPlayers.keySet()) {
+            PlayerStatsDelta delta = pendingPlayers.remove(player);
+            if (delta != null) {
+                drained.add(delta);
+            }
+        }
+        return drained;
+    }
+
+    // Remet en attente des deltas dont l'écriture a échoué (avant les parties plus récentes)
+    public void restorePlayerDeltas(Collection<PlayerStatsDelta> deltas) {
+        for (PlayerStatsDelta older : deltas) {
+            pendingPlayers.merge(older.getPlayerId(), older, (current, restored) -> {
+                restored.append(current);
+                return restored;
+            });
+        }
+    }
+
+    // Retire l'historique en attente d'écriture
+    public List<GameRecord> drainGameRecords() {
+        List<GameRecord> drained = new ArrayList<>();
+        GameRecord record;
+        while ((record = pendingRecords.poll()) != null) {
+            drained.add(record);
+        }
+        return drained;
+    }
+
+    // Remet en attente un historique dont l'écriture a échoué
+    public void restoreGameRecords(Collection<GameRecord> records) {
+        pendingRecords.addAll(records);
+    }
+
+    // Instantané des statistiques globales, avec les séries du joueur local
+    public GameStats snapshot() {
+        return snapshot(DEFAULT_PLAYER);
+    }
+
+    // Instantané des statistiques globales, avec les séries du joueur donné. Les compteurs sont lus
+    // avant la série : une partie vue dans les compteurs a déjà sa série à jour.
+    public GameStats snapshot(String playerId) {
+        long totalGames = 0;
+        long wins = 0;
+        long totalAttempts = 0;
+        long totalScore = 0;
+        for (Cell cell : cells) {
+            synchronized (cell) {
+                totalGames += cell.totalGames;
+                wins += cell.wins;
+                totalAttempts += cell.totalAttempts;
+                totalScore += cell.totalScore;
+            }
+        }
+
+        GameStats stats = new GameStats();
+        stats.setId(statsId);
+        stats.setTotalGames((int) totalGames);
+        stats.setWins((int) wins);
+        stats.setTotalAttempts((int) totalAttempts);
+        stats.setTotalScore((int) totalScore);
+
+        Streak streak = streaks.get(playerId);
+        if (streak != null) {
+            synchronized (streak) {
+                stats.setCurrentStreak(streak.current);
+                stats.setBestStreak(streak.best);
+            }
+        }
+        return stats;
+    }
+
+    // Meilleure série, tous joueurs confondus
+    public int getBestStreak() {
+        return bestStreak.get();
+    }
+
+    public Long getStatsId() {
+        return statsId;
+    }
+
+    // Identifiant de la ligne persistée, connu après la première sauvegarde
+    public void setStatsId(Long statsId) {
+        this.statsId = statsId;
+    }
+
+    private static final class Cell {
+        private long totalGames;
+        private long wins;
+        private long totalAttempts;
+        private long totalScore;
+    }
+
+    private static final class Streak {
+        private int current;
+        private int best;
+
+        private synchronized int record(boolean won) {
+            if (won) {
+                current++;
+                if (current > best) {
+                    best = current;
+                }
+            } else {
+                current = 0;
+            }
+            return best;
+        }
+    }
+}
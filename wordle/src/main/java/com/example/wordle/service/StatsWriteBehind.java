@@ -0,0 +1,118 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.GameRecord;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.PlayerStatsDelta;
+import com.example.wordle.repository.StatsStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Persistance différée des statistiques : les parties terminées sont regroupées en mémoire
+// (dans le StatsAccumulator) et enregistrées par lots (ligne globale, lignes par joueur
+// et historique), toutes les flushInterval ou dès que
+// batchSize parties sont en attente. Les mises à jour restantes sont écrites à la fermeture.
+public class StatsWriteBehind implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsWriteBehind.class);
+
+    private final StatsAccumulator stats;
+    private final StatsStore store;
+    private final int batchSize;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final GameMetrics metrics;
+
+    public StatsWriteBehind(StatsAccumulator stats, StatsStore store, Duration flushInterval, int batchSize) {
+        this(stats, store, flushInterval, batchSize, GameMetrics.inMemory());
+    }
+
+    public StatsWriteBehind(StatsAccumulator stats, StatsStore store, Duration flushInterval, int batchSize,
+                            GameMetrics metrics) {
+        this.metrics = metrics;
+        this.stats = stats;
+        this.store = store;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-stats-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, flushInterval.toMillis());
+        executor.scheduleWithFixedDelay(this::flushQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // Signale une partie terminée (déjà comptée dans l'accumulateur)
+    public void markDirty() {
+        if (pending.incrementAndGet() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    // Nombre de parties terminées pas encore persistées
+    public int getPending() {
+        return pending.get();
+    }
+
+    // Écrit l'instantané courant si des parties sont en attente
+    public synchronized void flush() {
+        int batch = pending.getAndSet(0);
+        if (batch == 0) {
+            return;
+        }
+        Collection<PlayerStatsDelta> players = stats.drainPlayerDeltas();
+        List<GameRecord> records = stats.drainGameRecords();
+        boolean playersSaved = false;
+        long start = System.nanoTime();
+        try {
+            GameStats saved = store.saveGlobal(stats.snapshot());
+            if (stats.getStatsId() == null) {
+                stats.setStatsId(saved.getId());
+            }
+            store.savePlayerDeltas(players);
+            playersSaved = true;
+            store.saveGameRecords(records);
+            metrics.persisted(start, true);
+        } catch (RuntimeException e) {
+            // Ce qui n'a pas été écrit reste en attente pour la prochaine écriture
+            if (!playersSaved) {
+                stats.restorePlayerDeltas(players);
+            }
+            stats.restoreGameRecords(records);
+            pending.addAndGet(batch);
+            metrics.persisted(start, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Échec de l'enregistrement des statistiques, nouvel essai au prochain cycle", e);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.WordleGame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Difficulté des mots cibles, apprise des parties terminées : pour chaque mot (par sa position
+// dans le bucket de sa longueur), nombre de parties, de victoires et somme des essais gagnants,
+// dans des tableaux d'entiers. Chaque niveau de difficulté a un arbre de Fenwick des poids des
+// mots : tirer un mot pondéré, ou changer le poids d'un mot après une partie, coûte O(log n).
+// Les tirages se font sans verrou sur une copie des arbres, republiée au plus une fois par
+// refreshInterval quand des parties ont été comptées depuis ; seules les mises à jour prennent
+// le verrou de la table. Sans niveau demandé, le tirage reste uniforme (DictionaryIndex.randomWord).
+// La probabilité de réussite d'un mot est estimée par (victoires + 1) / (parties + 2) : un mot
+// jamais joué vaut 1/2, un mot que personne ne trouve voit son poids tendre vers 0.
+// Les compteurs sont sauvegardés périodiquement (mot par mot, pour survivre à un changement
+// de liste) et rechargés au démarrage.
+@Component
+public class WordDifficulty implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WordDifficulty.class);
+
+    private static final int MAGIC = 0x57444946; // "WDIF"
+    private static final int VERSION = 1;
+    private static final double WEIGHT_SCALE = 1 << 20;
+
+    // Niveaux de difficulté proposés ; null = tous les mots, tirés uniformément
+    public enum Tier {
+        EASY, MEDIUM, HARD
+    }
+
+    public record WordStats(String word, int plays, int wins, double solveRate, double averageGuesses) {
+    }
+
+    private final DictionaryRegistry dictionaries;
+    private final Path file; // null : pas de sauvegarde
+    private final long refreshNanos; // Âge maximal des poids vus par les tirages
+    private final Map<String, AtomicReferenceArray<Table>> tables = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final ScheduledExecutorService executor; // null : pas de sauvegarde périodique
+
+    // Compteurs en mémoire seulement, poids republiés dès la partie suivante
+    public WordDifficulty(DictionaryRegistry dictionaries) {
+        this(dictionaries, (Path) null, Duration.ZERO, Duration.ZERO);
+    }
+
+    @Autowired
+    public WordDifficulty(DictionaryRegistry dictionaries,
+                          @Value("${wordle.difficulty.file:}") String file,
+                          @Value("${wordle.difficulty.checkpoint-interval:5m}") Duration checkpointInterval,
+                          @Value("${wordle.difficulty.refresh-interval:1s}") Duration refreshInterval) {
+        this(dictionaries, file.isBlank() ? null : Path.of(file), checkpointInterval, refreshInterval);
+    }
+
+    public WordDifficulty(DictionaryRegistry dictionaries, Path file, Duration checkpointInterval,
+                          Duration refreshInterval) {
+        this.dictionaries = dictionaries;
+        this.file = file;
+        this.refreshNanos = refreshInterval.toNanos();
+        if (file == null || checkpointInterval.isZero()) {
+            this.executor = null;
+        } else {
+            this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "wordle-difficulty-checkpoint");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(1, checkpointInterval.toMillis());
+            executor.scheduleWithFixedDelay(this::checkpointQuietly, period, period, TimeUnit.MILLISECONDS);
+        }
+        if (file != null && Files.exists(file)) {
+            load();
+        }
+    }
+
+    // Tire un mot de la longueur demandée : uniforme en O(1) sans niveau, pondéré selon le niveau
+    // en O(log n) sinon. Aucun des deux ne prend de verrou.
+    public String pick(DictionaryRegistry.Dictionary dictionary, int length, Tier tier) {
+        DictionaryIndex answers = dictionary.answers();
+        if (tier == null) {
+            return answers.randomWord(length);
+        }
+        if (answers.count(length) == 0) {
+            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+        }
+        Fenwick tree = table(dictionary, length).published(refreshNanos)[tier.ordinal()];
+        int index = tree.find(ThreadLocalRandom.current().nextLong(tree.total()));
+        return answers.wordAt(length, index);
+    }
+
+    // Comptabilise une partie terminée (mot cible absent de la version courante : ignorée)
+    public void record(DictionaryRegistry.Dictionary dictionary, WordleGame game) {
+        int length = game.getWordLength();
+        int index = dictionary.answers().indexOf(game.getTargetWord());
+        if (index < 0) {
+            return;
+        }
+        Table table = table(dictionary, length);
+        synchronized (table) {
+            table.add(index, 1, game.isWon() ? 1 : 0, game.isWon() ? game.getGuesses().size() : 0);
+        }
+        dirty.set(true);
+    }
+
+    // Compteurs d'un mot, null s'il n'est pas dans le dictionnaire
+    public WordStats stats(DictionaryRegistry.Dictionary dictionary, String word) {
+        int index = dictionary.answers().indexOf(word);
+        if (index < 0) {
+            return null;
+        }
+        Table table = table(dictionary, word.length());
+        synchronized (table) {
+            int plays = table.plays[index];
+            int wins = table.wins[index];
+            return new WordStats(word, plays, wins, solveRate(plays, wins),
+                    wins == 0 ? 0 : (double) table.guessSum[index] / wins);
+        }
+    }
+
+    // Table de la longueur pour la version courante du dictionnaire ; après un rechargement,
+    // les compteurs sont reportés mot par mot sur les nouvelles positions
+    private Table table(DictionaryRegistry.Dictionary dictionary, int length) {
+        AtomicReferenceArray<Table> byLength = tables.computeIfAbsent(dictionary.name(),
+                name -> new AtomicReferenceArray<>(FeedbackEngine.MAX_LENGTH + 1));
+        Table table = byLength.get(length);
+        if (table != null && table.source == dictionary.answers()) {
+            return table;
+        }
+        synchronized (byLength) {
+            table = byLength.get(length);
+            if (table == null || table.source != dictionary.answers()) {
+                Table fresh = new Table(dictionary.answers(), length);
+                if (table != null) {
+                    synchronized (table) {
+                        fresh.migrate(table);
+                    }
+                }
+                byLength.set(length, fresh);
+                table = fresh;
+            }
+            return table;
+        }
+    }
+
+    static double solveRate(int plays, int wins) {
+        return (wins + 1.0) / (plays + 2.0);
+    }
+
+    // Poids d'un mot pour chaque arbre (un par niveau, dans l'ordre de Tier)
+    static long weight(int tree, int plays, int wins) {
+        double p = solveRate(plays, wins);
+        double w = switch (tree) {
+            case 0 -> p * p * p; // EASY : les mots les plus souvent trouvés
+            case 1 -> 4 * p * (1 - p); // MEDIUM : autour d'une chance sur deux
+            default -> 4 * (1 - p) * (1 - p) * p; // HARD : rarement trouvés, mais trouvés quand même
+        };
+        return Math.max(1, Math.round(w * WEIGHT_SCALE));
+    }
+
+    // Écrit les compteurs dans le fichier (via un fichier temporaire renommé)
+    public void checkpoint() throws IOException {
+        if (file == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, "difficulty", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (Map.Entry<String, AtomicReferenceArray<Table>> entry : tables.entrySet()) {
+                byte[] name = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+                for (int length = 0; length < entry.getValue().length(); length++) {
+                    Table table = entry.getValue().get(length);
+                    if (table != null) {
+                        synchronized (table) {
+                            table.write(out, name);
+                        }
+                    }
+                }
+            }
+            out.writeByte(0);
+        } catch (IOException e) {
+            dirty.set(true);
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Échec de la sauvegarde des difficultés des mots", e);
+        }
+    }
+
+    private void load() {
+        int loaded = 0;
+        int skipped = 0;
+        Map<String, DictionaryRegistry.Dictionary> known = new HashMap<>();
+        dictionaries.names().forEach(name -> known.put(name, dictionaries.get(name)));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("Fichier de difficultés non reconnu : " + file);
+            }
+            int nameLength;
+            while ((nameLength = in.readUnsignedByte()) != 0) {
+                String name = new String(in.readNBytes(nameLength), StandardCharsets.US_ASCII);
+                String word = new String(in.readNBytes(in.readUnsignedByte()), StandardCharsets.ISO_8859_1);
+                int plays = in.readInt();
+                int wins = in.readInt();
+                long guessSum = in.readLong();
+                DictionaryRegistry.Dictionary dictionary = known.get(name);
+                int index = dictionary == null ? -1 : dictionary.answers().indexOf(word);
+                if (index < 0) {
+                    skipped++;
+                    continue;
+                }
+                Table table = table(dictionary, word.length());
+                synchronized (table) {
+                    table.add(index, plays, wins, guessSum);
+                }
+                loaded++;
+            }
+        } catch (EOFException e) {
+            log.warn("Fichier de difficultés tronqué : {}", file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Difficultés des mots non rechargées depuis {}", file, e);
+        }
+        log.info("Difficulté de {} mot(s) rechargée ({} ignoré(s))", loaded, skipped);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        checkpointQuietly();
+    }
+
+    // Compteurs et arbres d'une longueur, pour une version d'un dictionnaire (protégés par la table),
+    // et la dernière copie des arbres publiée pour les tirages
+    private static final class Table {
+        final DictionaryIndex source;
+        final int length;
+        final int[] plays;
+        final int[] wins;
+        final long[] guessSum;
+        final Fenwick[] trees = new Fenwick[Tier.values().length];
+        private final AtomicBoolean publishing = new AtomicBoolean();
+        private volatile Fenwick[] published; // Jamais modifiés une fois publiés
+        private volatile long publishedAt; // System.nanoTime
+        private volatile boolean stale; // Parties comptées depuis la dernière publication
+
+        Table(DictionaryIndex source, int length) {
+            int count = source.count(length);
+            this.source = source;
+            this.length = length;
+            this.plays = new int[count];
+            this.wins = new int[count];
+            this.guessSum = new long[count];
+            for (int t = 0; t < trees.length; t++) {
+                trees[t] = Fenwick.uniform(count, weight(t, 0, 0));
+            }
+            this.published = copyTrees();
+            this.publishedAt = System.nanoTime();
+        }
+
+        // Arbres pour un tirage, sans verrou ; un seul thread à la fois les recopie quand ils ont
+        // changé depuis plus de refreshNanos, les autres tirent sur la copie précédente
+        Fenwick[] published(long refreshNanos) {
+            Fenwick[] snapshot = published;
+            if (stale && System.nanoTime() - publishedAt >= refreshNanos && publishing.compareAndSet(false, true)) {
+                try {
+                    synchronized (this) {
+                        stale = false;
+                        snapshot = copyTrees();
+                        published = snapshot;
+                        publishedAt = System.nanoTime();
+                    }
+                } finally {
+                    publishing.set(false);
+                }
+            }
+            return snapshot;
+        }
+
+        private Fenwick[] copyTrees() {
+            Fenwick[] copy = new Fenwick[trees.length];
+            for (int t = 0; t < trees.length; t++) {
+                copy[t] = trees[t].copy();
+            }
+            return copy;
+        }
+
+        void add(int index, int playsDelta, int winsDelta, long guessesDelta) {
+            for (int t = 0; t < trees.length; t++) {
+                long before = weight(t, plays[index], wins[index]);
+                long after = weight(t, plays[index] + playsDelta, wins[index] + winsDelta);
+                trees[t].add(index, after - before);
+            }
+            plays[index] += playsDelta;
+            wins[index] += winsDelta;
+            guessSum[index] += guessesDelta;
+            stale = true;
+        }
+
+        void migrate(Table old) {
+            for (int i = 0; i < old.plays.length; i++) {
+                if (old.plays[i] > 0) {
+                    int index = source.indexOf(old.source.wordAt(length, i));
+                    if (index >= 0) {
+                        add(index, old.plays[i], old.wins[i], old.guessSum[i]);
+                    }
+                }
+            }
+        }
+
+        void write(DataOutputStream out, byte[] name) throws IOException {
+            byte[] word = new byte[length];
+            for (int i = 0; i < plays.length; i++) {
+                if (plays[i] > 0) {
+                    for (int p = 0; p < length; p++) {
+                        word[p] = source.letterAt(length, i, p);
+                    }
+                    out.writeByte(name.length);
+                    out.write(name);
+                    out.writeByte(length);
+                    out.write(word);
+                    out.writeInt(plays[i]);
+                    out.writeInt(wins[i]);
+                    out.writeLong(guessSum[i]);
+                }
+            }
+        }
+    }
+
+    // Arbre de Fenwick (indices binaires) des poids : somme des préfixes et recherche en O(log n)
+    static final class Fenwick {
+        private final long[] tree; // tree[i] (i >= 1) = somme des poids de ]i - lowbit(i), i]
+        private long total;
+
+        private Fenwick(int size) {
+            this.tree = new long[size + 1];
+        }
+
+        // Construction en O(n) quand tous les poids sont égaux
+        static Fenwick uniform(int size, long weight) {
+            Fenwick fenwick = new Fenwick(size);
+            for (int i = 1; i <= size; i++) {
+                fenwick.tree[i] = weight * Integer.lowestOneBit(i);
+            }
+            fenwick.total = weight * size;
+            return fenwick;
+        }
+
+        Fenwick copy() {
+            Fenwick copy = new Fenwick(tree.length - 1);
+            System.arraycopy(tree, 0, copy.tree, 0, tree.length);
+            copy.total = total;
+            return copy;
+        }
+
+        void add(int index, long delta) {
+            for (int i = index + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+                tree[i] += delta;
+            }
+            total += delta;
+        }
+
+        long total() {
+            return total;
+        }
+
+        // Plus petit indice dont la somme des poids jusqu'à lui (inclus) dépasse target
+        int find(long target) {
+            int position = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                int next = position + step;
+                if (next < tree.length && tree[next] <= target) {
+                    position = next;
+                    target -= tree[next];
+                }
+            }
+            return position;
+        }
+    }
+}
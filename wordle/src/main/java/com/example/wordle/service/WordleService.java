@@ -1,73 +1,113 @@
 package com.example.wordle.service;
 
 import com.example.wordle.model.GameStats;
+import com.example.wordle.model.GuessConstraints;
 import com.example.wordle.model.WordleGame;
 import com.example.wordle.repository.GameStatsRepository;
-import org.springframework.core.io.ClassPathResource;
+import com.example.wordle.repository.JpaStatsStore;
+import com.example.wordle.repository.StatsStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Service
-public class WordleService {
+public class WordleService implements AutoCloseable {
 
-    private final List<String> fullDictionary; // Dictionnaire complet
-    private final GameStatsRepository statsRepository; // Accès BDD
-    private GameStats stats; // Statistiques du joueur
+    private final DictionaryRegistry dictionaries; // Dictionnaires indexés par longueur, par nom
+    private final StatsAccumulator stats; // Statistiques agrégées en mémoire
+    private final StatsWriteBehind statsWriter; // Persistance différée des stats
+    private final GameMetrics metrics; // Compteurs et chronos exposés par Actuator
+    private final ExpiryWheel expiryWheel; // Fin des parties chronométrées à échéance
+    private final GameEventLog events; // Journal des essais et des fins de partie
+    private final WordDifficulty difficulty; // Réussite par mot cible, tirage pondéré
 
-    // Constructeur avec injection du repository
+    // Constructeur avec le repository JPA et les valeurs par défaut
     public WordleService(GameStatsRepository statsRepository) {
-        this.statsRepository = statsRepository;
+        this(builder(new JpaStatsStore(statsRepository)).withDefaults());
+    }
 
-        // Chargement du dictionnaire à partir du fichier
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new ClassPathResource("listeMots.txt").getInputStream()))
-        ) {
-            this.fullDictionary = reader.lines()
-                    .map(String::toUpperCase)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException("Impossible de charger les mots", e);
-        }
+    private WordleService(Builder builder) {
+        this(builder.statsStore, builder.flushInterval, builder.flushBatchSize, builder.metrics,
+                builder.expiryWheel, builder.dictionaries, builder.events, builder.difficulty);
+    }
+
+    // Constructeur avec injection du stockage des stats, des paramètres d'écriture par lots,
+    // des métriques, de la roue d'expiration, des dictionnaires, du journal des parties
+    // et des difficultés des mots
+    @Autowired
+    public WordleService(StatsStore statsStore,
+                         @Value("${wordle.stats.flush-interval:2s}") Duration flushInterval,
+                         @Value("${wordle.stats.flush-batch-size:500}") int flushBatchSize,
+                         GameMetrics metrics,
+                         ExpiryWheel expiryWheel,
+                         DictionaryRegistry dictionaries,
+                         GameEventLog events,
+                         WordDifficulty difficulty) {
+        this.metrics = metrics;
+        this.expiryWheel = expiryWheel;
+        this.dictionaries = dictionaries;
+        this.events = events;
+        this.difficulty = difficulty;
 
         // Chargement ou création des stats persistées
-        Optional<GameStats> optional = statsRepository.findAll().stream().findFirst();
-        if (optional.isPresent()) {
-            this.stats = optional.get();
-        } else {
-            this.stats = new GameStats();
-            statsRepository.save(this.stats);
-        }
+        this.stats = new StatsAccumulator(statsStore.loadGlobal());
+        this.statsWriter = new StatsWriteBehind(stats, statsStore, flushInterval, flushBatchSize, metrics);
     }
 
     // Initialise une nouvelle partie avec la longueur de mot et le mode donné
     public WordleGame startNewGame(int length, int modeChoice) {
-        // Filtrer le dictionnaire pour obtenir uniquement des mots de la longueur souhaitée
-        List<String> filteredDict = fullDictionary.stream()
-                .filter(w -> w.length() == length)
-                .collect(Collectors.toList());
+        return startNewGame(length, modeChoice, false);
+    }
+
+    // Idem, en mode dictionnaire strict : seuls les mots du dictionnaire sont acceptés comme essais
+    public WordleGame startNewGame(int length, int modeChoice, boolean strictDictionary) {
+        return startNewGame(null, length, modeChoice, strictDictionary);
+    }
+
+    // Idem, avec un mot tiré du dictionnaire nommé (null = dictionnaire par défaut)
+    public WordleGame startNewGame(String dictionaryName, int length, int modeChoice, boolean strictDictionary) {
+        return startNewGame(dictionaryName, length, modeChoice, strictDictionary, null);
+    }
+
+    // Idem, avec un mot du niveau de difficulté demandé (null = tous les mots, tirage uniforme)
+    public WordleGame startNewGame(String dictionaryName, int length, int modeChoice, boolean strictDictionary,
+                                   WordDifficulty.Tier tier) {
+        // Sélection aléatoire d'un mot de la longueur souhaitée (pondérée si un niveau est demandé)
+        String targetWord = difficulty.pick(dictionaries.get(dictionaryName), length, tier);
+        WordleGame game = startGame(targetWord, modeChoice, strictDictionary);
+        game.setDictionaryName(dictionaryName);
+        return game;
+    }
 
-        if (filteredDict.isEmpty()) {
-            throw new IllegalArgumentException("Aucun mot de longueur " + length + " trouvé.");
+    // Passe une partie pas encore commencée en mode difficile
+    public void enableHardMode(WordleGame game) {
+        if (!game.getGuesses().isEmpty()) {
+            throw new IllegalStateException("Le mode difficile se choisit avant le premier essai.");
         }
+        game.setConstraints(new GuessConstraints(game.getWordLength()));
+    }
 
-        // Sélection aléatoire d'un mot
-        String randomWord = filteredDict.get(new Random().nextInt(filteredDict.size()));
+    // Initialise une partie sur un mot imposé (mot du jour...)
+    public WordleGame startGame(String targetWord, int modeChoice, boolean strictDictionary) {
+        long start = System.nanoTime();
+        int length = targetWord.length();
 
         WordleGame game = new WordleGame();
-        game.setTargetWord(randomWord);
+        game.setTargetWord(targetWord);
         game.setWordLength(length);
         game.setMode(modeChoice);
+        game.setStrictDictionary(strictDictionary);
+        game.setStartNanos(expiryWheel.nanoTime());
 
         // Configuration des essais / chrono selon le mode
         switch (modeChoice) {
             case 2: // Chronométré
                 game.setRemainingAttempts(6);
                 game.setTimeLimitSeconds(60);
+                // L'échéance est programmée par l'appelant une fois la partie enregistrée (armExpiry)
                 break;
             case 3: // Pratique
                 game.setRemainingAttempts(10);
@@ -77,6 +117,7 @@ public class WordleService {
                 game.setRemainingAttempts(6);
                 break;
         }
+        metrics.gameStarted(modeChoice, length, start);
         return game;
     }
 
@@ -88,76 +129,161 @@ public class WordleService {
     // Valide et analyse le mot proposé par le joueur.
     public String checkGuess(WordleGame game, String guess) {
         int length = game.getWordLength();
+        long pattern = scoreGuess(game, guess);
+        return FeedbackEngine.render(pattern, length);
+    }
+
+    // Idem, avec le dictionnaire de la partie déjà résolu (essais en lot sur une même partie)
+    public String checkGuess(WordleGame game, String guess, DictionaryRegistry.Dictionary dictionary) {
+        long pattern = scoreGuess(game, guess, dictionary);
+        return FeedbackEngine.render(pattern, game.getWordLength());
+    }
+
+    // Valide l'essai, met à jour la partie et renvoie le feedback encodé (voir FeedbackEngine).
+    public long scoreGuess(WordleGame game, String guess) {
+        return scoreGuess(game, guess, null);
+    }
+
+    // Idem ; dictionary (null = résolu au besoin) sert au mode strict
+    public long scoreGuess(WordleGame game, String guess, DictionaryRegistry.Dictionary dictionary) {
+        int length = game.getWordLength();
+        boolean timed = metrics.sampleGuess();
+        long start = timed ? System.nanoTime() : 0;
 
-        // Validation de la saisie
-        if (guess.length() != length || !guess.matches("[A-Za-zÀ-ÖØ-öø-ÿ]+")) {
+        // Validation de la saisie, mise en majuscules dans le même passage
+        String normalized = guess.length() == length ? normalizeGuess(guess) : null;
+        if (normalized == null) {
+            metrics.guessRejected();
             throw new IllegalArgumentException("Mot invalide (doit faire " + length + " lettres).");
         }
 
-        // Mode chrono : temps écoulé ?
-        if (game.isTimeUp()) {
-            game.setGameOver(true);
-            throw new IllegalStateException("Temps écoulé !");
-        }
+        guess = normalized;
+        long pattern;
+        // De la vérification du temps jusqu'à la fin de partie, sous le verrou de la partie : la roue
+        // d'expiration (expire) ne peut pas terminer la partie au milieu d'un essai
+        synchronized (game) {
+            // Mode chrono : temps écoulé ?
+            if (isTimeUp(game)) {
+                expire(game);
+                throw new IllegalStateException("Temps écoulé !");
+            }
+            // Partie déjà terminée (gagnée, perdue ou expirée entre-temps) : plus d'essai
+            if (game.isGameOver()) {
+                throw new IllegalStateException("La partie est terminée.");
+            }
 
-        guess = guess.toUpperCase();
-        String target = game.getTargetWord();
+            if (game.isStrictDictionary()
+                    && !(dictionary != null ? dictionary : getDictionary(game)).accepts(guess)) {
+                metrics.guessRejected();
+                throw new IllegalArgumentException("Mot inconnu du dictionnaire.");
+            }
+            // Mode difficile : vérification sur l'état des contraintes, sans relire les essais précédents
+            GuessConstraints constraints = game.getConstraints();
+            String violation = constraints != null ? constraints.violation(guess) : null;
+            if (violation != null) {
+                metrics.guessRejected();
+                throw new IllegalArgumentException(violation);
+            }
+            pattern = FeedbackEngine.score(guess, game.getTargetWord());
+            if (constraints != null) {
+                constraints.apply(guess, pattern);
+            }
 
-        // Fréquences de chaque lettre du mot cible
-        Map<Character, Integer> freq = new HashMap<>();
-        for (char c : target.toCharArray()) {
-            freq.put(c, freq.getOrDefault(c, 0) + 1);
+            // Mise à jour des tentatives
+            game.setRemainingAttempts(game.getRemainingAttempts() - 1);
+            game.getGuesses().add(guess);
+            events.guess(game, guess, pattern);
+
+            if (FeedbackEngine.isWin(pattern, length)) {
+                // Partie gagnée
+                finish(game, true);
+            } else if (game.getRemainingAttempts() == 0) {
+                // Partie perdue
+                finish(game, false);
+            }
         }
 
-        // Tableau de résultat (par ex. "[X]", "[O]", "[_]")
-        String[] resultArray = new String[length];
+        metrics.guessScored();
+        if (timed) {
+            metrics.guessTimed(start);
+        }
+        return pattern;
+    }
 
-        // 1er passage : repérer les [X] (lettres exactes)
-        for (int i = 0; i < length; i++) {
-            char g = guess.charAt(i);
-            char t = target.charAt(i);
-            if (g == t) {
-                resultArray[i] = "[X]";
-                freq.put(g, freq.get(g) - 1);
+    // Essai en majuscules (voir Latin1) si c'est un mot de lettres, null sinon.
+    // Un essai déjà en majuscules est renvoyé tel quel, sans allocation ; sinon une seule copie.
+    private static String normalizeGuess(String guess) {
+        if (guess.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < guess.length(); i++) {
+            if (!Latin1.isLetter(guess.charAt(i))) {
+                return null;
             }
         }
+        return Latin1.toUpperCase(guess);
+    }
 
-        // 2e passage : repérer les [O] (lettres présentes ailleurs) ou [_] (absentes)
-        for (int i = 0; i < length; i++) {
-            if (resultArray[i] == null) {
-                char g = guess.charAt(i);
-                if (freq.containsKey(g) && freq.get(g) > 0) {
-                    resultArray[i] = "[O]";
-                    freq.put(g, freq.get(g) - 1);
-                } else {
-                    resultArray[i] = "[_]";
-                }
+    // Termine une partie gagnée ou perdue (sauf si elle a déjà expiré entre-temps)
+    private void finish(WordleGame game, boolean won) {
+        synchronized (game) {
+            if (game.isGameOver()) {
+                return;
             }
+            game.setWon(won);
+            game.setGameOver(true);
+            updateScore(game);
+            recordFinishedGame(game);
         }
+    }
 
-        // Mise à jour des tentatives
-        game.setRemainingAttempts(game.getRemainingAttempts() - 1);
-        game.getGuesses().add(guess);
+    // Programme la fin d'une partie chronométrée gardée telle quelle par l'appelant (console...),
+    // même si le joueur ne rejoue plus. À appeler une fois la partie acceptée : une partie refusée
+    // (store plein, erreur) ne doit pas être comptée perdue à l'échéance.
+    public void armExpiry(WordleGame game) {
+        scheduleExpiry(game, () -> expire(game));
+    }
 
-        // Vérification si toutes les lettres sont correctes
-        boolean allCorrect = Arrays.stream(resultArray).allMatch("[X]"::equals);
+    // Programme la fin d'une partie chronométrée à son échéance (temps restant d'après le début de partie).
+    // onExpiry appelle expire() sur la partie, ou sur sa version enregistrée quand elle vit hors du tas.
+    public void scheduleExpiry(WordleGame game, Runnable onExpiry) {
+        if (game.getTimeLimitSeconds() <= 0 || game.isGameOver()) {
+            return;
+        }
+        if (game.getCancelExpiry() != null) {
+            game.getCancelExpiry().run();
+        }
+        long remainingNanos = TimeUnit.SECONDS.toNanos(game.getTimeLimitSeconds())
+                - (expiryWheel.nanoTime() - game.getStartNanos());
+        ExpiryWheel.Timeout timeout = expiryWheel.schedule(Duration.ofNanos(Math.max(0, remainingNanos)), onExpiry);
+        game.setCancelExpiry(timeout::cancel);
+    }
 
-        if (allCorrect) {
-            // Partie gagnée
-            game.setWon(true);
-            game.setGameOver(true);
-            updateScore(game);
-            stats.updateFromGame(game);
-            statsRepository.save(stats);
-        } else if (game.getRemainingAttempts() == 0) {
-            // Partie perdue
+    // Termine une partie dont le temps est écoulé : perdue, sans points, comptée une seule fois.
+    // Renvoie false si la partie était déjà terminée.
+    public boolean expire(WordleGame game) {
+        synchronized (game) {
+            if (game.isGameOver()) {
+                return false;
+            }
             game.setGameOver(true);
-            updateScore(game);
-            stats.updateFromGame(game);
-            statsRepository.save(stats);
+            game.setScore(0);
+            metrics.timeUp();
+            recordFinishedGame(game);
+            return true;
         }
+    }
 
-        return String.join("", resultArray);
+    // Comptabilise une partie terminée ; l'écriture en base se fait plus tard, par lots
+    private void recordFinishedGame(WordleGame game) {
+        if (game.getCancelExpiry() != null) {
+            game.getCancelExpiry().run();
+        }
+        stats.record(game);
+        difficulty.record(getDictionary(game), game);
+        events.finished(game);
+        metrics.gameFinished(game.isWon());
+        statsWriter.markDirty();
     }
 
     // Calcule un score simple en fonction du nombre d'essais utilisés et du temps restant
@@ -168,7 +294,7 @@ public class WordleService {
         int score = baseScore - attemptsPenalty;
 
         if (game.getMode() == 2 && game.isWon()) {
-            long timeLeft = game.getTimeLimitSeconds() - game.getElapsedTimeSeconds();
+            long timeLeft = game.getTimeLimitSeconds() - game.getElapsedTimeSeconds(nanoTime());
             if (timeLeft > 0) {
                 score += timeLeft * 5;
             }
@@ -177,30 +303,150 @@ public class WordleService {
         game.setScore(Math.max(score, 0));
     }
 
-    // Retourne les statistiques actuelles (persistées)
+    // Horloge des parties chronométrées (celle de la roue d'expiration), en nanosecondes
+    public long nanoTime() {
+        return expiryWheel.nanoTime();
+    }
+
+    // Indique si le temps d'une partie chronométrée est écoulé
+    public boolean isTimeUp(WordleGame game) {
+        return game.isTimeUp(nanoTime());
+    }
+
+    // Retourne un instantané des statistiques actuelles (joueur local)
     public GameStats getStats() {
-        return stats;
+        return stats.snapshot();
+    }
+
+    // Retourne un instantané des statistiques, avec les séries du joueur donné
+    public GameStats getStats(String playerId) {
+        return stats.snapshot(playerId);
+    }
+
+    public WordDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Dictionnaire par défaut, dans sa version courante (solveur, index...)
+    public DictionaryIndex getDictionary() {
+        return dictionaries.getDefault().answers();
+    }
+
+    // Version courante du dictionnaire de la partie
+    public DictionaryRegistry.Dictionary getDictionary(WordleGame game) {
+        return dictionaries.get(game.getDictionaryName());
+    }
+
+    public DictionaryRegistry getDictionaries() {
+        return dictionaries;
+    }
+
+    // Indique si le mot fait partie du dictionnaire par défaut
+    public boolean isInDictionary(String word) {
+        return dictionaries.getDefault().accepts(Latin1.toUpperCase(word));
     }
 
     // Trouve la longueur minimale d'un mot du dictionnaire
     public int getMinWordLength() {
-        if (fullDictionary.isEmpty()) {
-            throw new IllegalStateException("Le dictionnaire est vide.");
-        }
-        return fullDictionary.stream()
-                .mapToInt(String::length)
-                .min()
-                .orElseThrow(() -> new IllegalStateException("Aucun mot trouvé."));
+        return getDictionary().getMinLength();
     }
 
     // Trouve la longueur maximale d'un mot du dictionnaire
     public int getMaxWordLength() {
-        if (fullDictionary.isEmpty()) {
-            throw new IllegalStateException("Le dictionnaire est vide.");
+        return getDictionary().getMaxLength();
+    }
+
+    // Écrit immédiatement les statistiques en attente
+    public void flushStats() {
+        statsWriter.flush();
+    }
+
+    // Service hors Spring (console, simulateur, tests) : seuls les collaborateurs renseignés
+    // remplacent les valeurs par défaut (persistance toutes les 2 s par lots de 500, métriques en
+    // mémoire, roue d'expiration propre au service, dictionnaire intégré, sans journal)
+    public static Builder builder(StatsStore statsStore) {
+        return new Builder(statsStore);
+    }
+
+    public static final class Builder {
+
+        private final StatsStore statsStore;
+        private Duration flushInterval = Duration.ofSeconds(2);
+        private int flushBatchSize = 500;
+        private GameMetrics metrics;
+        private ExpiryWheel expiryWheel;
+        private DictionaryRegistry dictionaries;
+        private GameEventLog events;
+        private WordDifficulty difficulty;
+
+        private Builder(StatsStore statsStore) {
+            this.statsStore = statsStore;
+        }
+
+        public Builder flush(Duration interval, int batchSize) {
+            this.flushInterval = interval;
+            this.flushBatchSize = batchSize;
+            return this;
+        }
+
+        public Builder metrics(GameMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder expiryWheel(ExpiryWheel expiryWheel) {
+            this.expiryWheel = expiryWheel;
+            return this;
+        }
+
+        public Builder dictionaries(DictionaryRegistry dictionaries) {
+            this.dictionaries = dictionaries;
+            return this;
+        }
+
+        public Builder events(GameEventLog events) {
+            this.events = events;
+            return this;
+        }
+
+        public Builder difficulty(WordDifficulty difficulty) {
+            this.difficulty = difficulty;
+            return this;
+        }
+
+        public WordleService build() {
+            return new WordleService(withDefaults());
+        }
+
+        // Les difficultés par défaut sont suivies en mémoire, sur les dictionnaires du service
+        private Builder withDefaults() {
+            if (metrics == null) {
+                metrics = GameMetrics.inMemory();
+            }
+            if (expiryWheel == null) {
+                expiryWheel = new ExpiryWheel(Duration.ofMillis(100));
+            }
+            if (dictionaries == null) {
+                dictionaries = new DictionaryRegistry();
+            }
+            if (events == null) {
+                events = GameEventLog.disabled();
+            }
+            if (difficulty == null) {
+                difficulty = new WordDifficulty(dictionaries);
+            }
+            return this;
         }
-        return fullDictionary.stream()
-                .mapToInt(String::length)
-                .max()
-                .orElseThrow(() -> new IllegalStateException("Aucun mot trouvé."));
+    }
+
+    // Arrêt du contexte : les statistiques en attente sont écrites avant la fermeture
+    @Override
+    public void close() {
+        expiryWheel.close();
+        statsWriter.close();
     }
 }
@@ -0,0 +1,228 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.CandidateSet;
+import com.example.wordle.model.WordleGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Solveur : calcule le meilleur prochain essai d'une partie.
+// Les mots encore possibles sont gardés dans un bitset sur le bucket de la longueur de la partie,
+// filtré au fur et à mesure des essais. Chaque essai envisagé est noté par l'information
+// attendue (entropie de la répartition des feedbacks sur les candidats), calculée en parallèle.
+// Au-delà de maxGuesses essais envisagés ou maxTargets candidats, un échantillon régulier est
+// utilisé pour borner le temps de calcul sur les grands buckets. Les feedbacks sont lus
+// dans la matrice précalculée de la longueur quand elle est prête (FeedbackMatrixCache,
+// dictionnaire par défaut seulement), sinon calculés à la volée.
+@Service
+public class WordleSolver {
+
+    // Au-delà, l'histogramme des feedbacks est remplacé par un tri (3^10 = 59049 cases)
+    private static final int MAX_HISTOGRAM_LENGTH = 10;
+    private static final int LEAF_SIZE = 16;
+
+    public record Hint(String word, double expectedBits, int remainingCandidates) {
+    }
+
+    private final WordleService wordleService;
+    private final FeedbackMatrixCache matrixCache;
+    private final int maxGuesses;
+    private final int maxTargets;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public WordleSolver(WordleService wordleService,
+                        FeedbackMatrixCache matrixCache,
+                        @Value("${wordle.solver.max-guesses:500}") int maxGuesses,
+                        @Value("${wordle.solver.max-targets:1500}") int maxTargets) {
+        this(wordleService, matrixCache, maxGuesses, maxTargets, ForkJoinPool.commonPool());
+    }
+
+    public WordleSolver(WordleService wordleService, FeedbackMatrixCache matrixCache,
+                        int maxGuesses, int maxTargets, ForkJoinPool pool) {
+        this.wordleService = wordleService;
+        this.matrixCache = matrixCache;
+        this.maxGuesses = maxGuesses;
+        this.maxTargets = maxTargets;
+        this.pool = pool;
+    }
+
+    // Mots encore compatibles avec les essais de la partie (filtrage incrémental)
+    public CandidateSet candidates(WordleGame game) {
+        return candidates(game, wordleService.getDictionary(game));
+    }
+
+    private CandidateSet candidates(WordleGame game, DictionaryRegistry.Dictionary dictionary) {
+        int length = game.getWordLength();
+        byte[] bucket = dictionary.bucket(length);
+        CandidateSet candidates = game.getCandidates();
+        // Première demande, ou dictionnaire rechargé depuis : on repart de tous les mots
+        if (candidates == null || candidates.getBucket() != bucket) {
+            candidates = new CandidateSet(bucket, length);
+            game.setCandidates(candidates);
+        }
+
+        int[] counts = new int[FeedbackEngine.COUNTS_SIZE];
+        byte[] target = game.getTargetWord().getBytes(StandardCharsets.ISO_8859_1);
+        for (int g = candidates.getAppliedGuesses(); g < game.getGuesses().size(); g++) {
+            byte[] guess = game.getGuesses().get(g).getBytes(StandardCharsets.ISO_8859_1);
+            long pattern = FeedbackEngine.score(guess, 0, target, 0, length, counts);
+            narrow(candidates.getWords(), bucket, length, guess, pattern, counts);
+        }
+        candidates.setAppliedGuesses(game.getGuesses().size());
+        return candidates;
+    }
+
+    // Garde les mots qui auraient donné ce feedback pour cet essai
+    static void narrow(BitSet words, byte[] bucket, int length, byte[] guess, long pattern, int[] counts) {
+        for (int i = words.nextSetBit(0); i >= 0; i = words.nextSetBit(i + 1)) {
+            if (FeedbackEngine.score(guess, 0, bucket, i * length, length, counts) != pattern) {
+                words.clear(i);
+            }
+        }
+    }
+
+    // Meilleur prochain essai pour la partie
+    public Hint hint(WordleGame game) {
+        int length = game.getWordLength();
+        // Une seule version du dictionnaire pour tout le calcul, même s'il est rechargé entre-temps
+        DictionaryRegistry.Dictionary dictionary = wordleService.getDictionary(game);
+        CandidateSet candidates = candidates(game, dictionary);
+        int remaining = candidates.size();
+        if (remaining == 0) {
+            throw new IllegalStateException("Aucun mot candidat.");
+        }
+
+        byte[] bucket = candidates.getBucket();
+        int[] all = candidates.getWords().stream().toArray();
+        if (remaining <= 2) {
+            return new Hint(wordAt(bucket, length, all[0]), remaining == 2 ? 1.0 : 0.0, remaining);
+        }
+
+        int[] guesses = sample(all, maxGuesses);
+        int[] targets = sample(all, maxTargets);
+        double[] entropies = new double[guesses.length];
+        pool.invoke(new EntropyTask(bucket, matrixCache.matrix(dictionary.answers(), length),
+                length, guesses, targets, entropies, 0, guesses.length));
+
+        int best = 0;
+        for (int i = 1; i < guesses.length; i++) {
+            if (entropies[i] > entropies[best]) {
+                best = i;
+            }
+        }
+        return new Hint(wordAt(bucket, length, guesses[best]), entropies[best], remaining);
+    }
+
+    private static String wordAt(byte[] bucket, int length, int index) {
+        return new String(bucket, index * length, length, StandardCharsets.ISO_8859_1);
+    }
+
+    // Joue la partie jusqu'au bout en suivant les conseils du solveur (joueur automatique)
+    public void autoPlay(WordleGame game) {
+        while (!game.isGameOver()) {
+            wordleService.checkGuess(game, hint(game).word());
+        }
+    }
+
+    // Échantillon régulier d'au plus max éléments
+    private static int[] sample(int[] values, int max) {
+        if (values.length <= max) {
+            return values;
+        }
+        int[] sample = new int[max];
+        double step = (double) values.length / max;
+        for (int i = 0; i < max; i++) {
+            sample[i] = values[(int) (i * step)];
+        }
+        return sample;
+    }
+
+    // Calcul de l'entropie de chaque essai, découpé récursivement (fork-join)
+    private static final class EntropyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] bucket;
+        private final FeedbackMatrixCache.Matrix matrix; // null : feedbacks calculés à la volée
+        private final int length;
+        private final int[] guesses;
+        private final int[] targets;
+        private final double[] entropies;
+        private final int from;
+        private final int to;
+
+        private EntropyTask(byte[] bucket, FeedbackMatrixCache.Matrix matrix, int length,
+                            int[] guesses, int[] targets, double[] entropies, int from, int to) {
+            this.bucket = bucket;
+            this.matrix = matrix;
+            this.length = length;
+            this.guesses = guesses;
+            this.targets = targets;
+            this.entropies = entropies;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new EntropyTask(bucket, matrix, length, guesses, targets, entropies, from, mid),
+                        new EntropyTask(bucket, matrix, length, guesses, targets, entropies, mid, to));
+                return;
+            }
+            int[] counts = new int[FeedbackEngine.COUNTS_SIZE];
+            long[] patterns = new long[targets.length];
+            int[] histogram = length <= MAX_HISTOGRAM_LENGTH
+                    ? new int[(int) FeedbackEngine.patternCount(length)] : null;
+
+            for (int g = from; g < to; g++) {
+                int guessOffset = guesses[g] * length;
+                for (int t = 0; t < targets.length; t++) {
+                    patterns[t] = matrix != null
+                            ? matrix.get(guesses[g], targets[t])
+                            : FeedbackEngine.score(bucket, guessOffset, bucket, targets[t] * length, length, counts);
+                }
+
+                // Somme des c * log2(c) sur les effectifs c de chaque feedback
+                double sum = 0;
+                if (histogram != null) {
+                    for (long pattern : patterns) {
+                        histogram[(int) pattern]++;
+                    }
+                    for (long pattern : patterns) {
+                        int c = histogram[(int) pattern];
+                        if (c > 0) {
+                            sum += c * log2(c);
+                            histogram[(int) pattern] = 0;
+                        }
+                    }
+                } else {
+                    Arrays.sort(patterns);
+                    int run = 1;
+                    for (int t = 1; t <= patterns.length; t++) {
+                        if (t < patterns.length && patterns[t] == patterns[t - 1]) {
+                            run++;
+                        } else {
+                            sum += run * log2(run);
+                            run = 1;
+                        }
+                    }
+                }
+                int n = targets.length;
+                entropies[g] = log2(n) - sum / n;
+            }
+        }
+
+        private static double log2(double x) {
+            return Math.log(x) / Math.log(2);
+        }
+    }
+}
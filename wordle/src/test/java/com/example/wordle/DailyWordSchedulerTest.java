@@ -0,0 +1,81 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.GameStatsRepository;
+import com.example.wordle.service.DailyWordScheduler;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyWordSchedulerTest {
+
+    private static final LocalDate EPOCH = LocalDate.of(2025, 1, 1);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T10:00:00Z"), ZoneOffset.UTC);
+
+    private WordleService service;
+    private DailyWordScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        GameStatsRepository mockRepo = Mockito.mock(GameStatsRepository.class);
+        Mockito.when(mockRepo.findAll()).thenReturn(List.of(new GameStats()));
+        service = new WordleService(mockRepo);
+        scheduler = new DailyWordScheduler(service, 42, EPOCH, CLOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie que deux instances (deux serveurs) donnent le même mot pour une date et une longueur.
+    @Test
+    void wordOf_shouldBeSameAcrossInstances() {
+        DailyWordScheduler other = new DailyWordScheduler(service, 42, EPOCH, CLOCK);
+        for (int length = 2; length <= 12; length++) {
+            LocalDate date = EPOCH.plusDays(length * 37L);
+            assertEquals(scheduler.wordOf(date, length), other.wordOf(date, length));
+        }
+        assertNotEquals(scheduler.wordOf(EPOCH, 5), new DailyWordScheduler(service, 43, EPOCH, CLOCK).wordOf(EPOCH, 5),
+                "Une autre graine doit donner une autre rotation");
+    }
+
+    // Vérifie qu'aucun mot ne revient avant que tout le bucket ait été joué.
+    @Test
+    void wordOf_shouldNotRepeatWithinCycle() {
+        int count = service.getDictionary().count(3);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            Set<String> seen = new HashSet<>();
+            for (int day = 0; day < count; day++) {
+                String word = scheduler.wordOf(EPOCH.plusDays((long) cycle * count + day), 3);
+                assertTrue(seen.add(word), "Mot répété dans le cycle : " + word);
+            }
+            assertEquals(count, seen.size());
+        }
+    }
+
+    // Vérifie qu'une partie du jour porte le mot et la date du jour.
+    @Test
+    void startDailyGame_shouldUseTodayWord() {
+        WordleGame game = scheduler.startDailyGame(5, 1, false);
+        assertEquals(scheduler.todayWord(5), game.getTargetWord());
+        assertEquals(LocalDate.of(2026, 10, 17), game.getDailyDate());
+        assertEquals(6, game.getRemainingAttempts());
+        assertEquals(game.getTargetWord(), scheduler.startDailyGame(5, 3, false).getTargetWord());
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.startDailyGame(30, 1, false));
+    }
+}
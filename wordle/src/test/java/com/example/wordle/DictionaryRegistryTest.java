@@ -0,0 +1,116 @@
+package com.example.wordle;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryRegistryTest {
+
+    @TempDir
+    Path dir;
+
+    // Vérifie qu'un dictionnaire du répertoire sert aux parties, avec ses essais supplémentaires.
+    @Test
+    void customDictionary_shouldServeGamesAndExtraGuesses() throws Exception {
+        Files.writeString(dir.resolve("animaux.txt"), "chien\nchats\nChien\n\nloups\n");
+        Files.writeString(dir.resolve("animaux.guesses.txt"), "ZEBRE\n");
+        Files.writeString(dir.resolve("Notes.md"), "ignoré");
+
+        try (DictionaryRegistry registry = new DictionaryRegistry("fr", dir, Duration.ZERO, false);
+             WordleService service = newService(registry)) {
+            assertEquals(Set.of("animaux", "fr"), registry.names());
+            assertEquals(3, registry.get("animaux").answers().size());
+
+            WordleGame game = service.startNewGame("animaux", 5, 1, true);
+            assertEquals("animaux", game.getDictionaryName());
+            assertTrue(Set.of("CHATS", "CHIEN", "LOUPS").contains(game.getTargetWord()));
+            service.checkGuess(game, "zebre");
+            assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "pomme"));
+
+            assertThrows(IllegalArgumentException.class, () -> service.startNewGame("inconnu", 5, 1, false));
+        }
+    }
+
+    // Vérifie que les mots accentués gardent leurs lettres Latin-1 et leur longueur au chargement,
+    // quelle que soit la locale du serveur (ß et ÿ inchangés, i sans point en turc).
+    @Test
+    void latin1Words_shouldBeUpperCasedWithoutLocale() throws Exception {
+        Files.writeString(dir.resolve("mots.txt"), "straße\nÿeuse\nimage\nélève\n");
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try (DictionaryRegistry registry = new DictionaryRegistry("fr", dir, Duration.ZERO, false);
+             WordleService service = newService(registry)) {
+            DictionaryIndex answers = registry.get("mots").answers();
+            assertEquals(4, answers.size());
+            assertTrue(answers.contains("STRAßE"));
+            assertTrue(answers.contains("\u00FFEUSE"));
+            assertTrue(answers.contains("IMAGE"));
+            assertTrue(answers.contains("ÉLÈVE"));
+
+            WordleGame game = service.startNewGame("mots", 6, 1, true);
+            assertEquals("STRAßE", game.getTargetWord());
+            assertEquals("[X][X][X][X][X][X]", service.checkGuess(game, "straße"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    // Vérifie qu'un rechargement remplace la liste sans gêner la partie en cours.
+    @Test
+    void reload_shouldSwapVersionAndKeepRunningGames() throws Exception {
+        Files.writeString(dir.resolve("animaux.txt"), "CHIEN\n");
+        try (DictionaryRegistry registry = new DictionaryRegistry("fr", dir, Duration.ZERO, false);
+             WordleService service = newService(registry)) {
+            WordleGame game = service.startNewGame("animaux", 5, 1, true);
+            DictionaryRegistry.Dictionary before = registry.get("animaux");
+
+            Files.writeString(dir.resolve("animaux.txt"), "CHATS\nLOUPS\n");
+            assertTrue(registry.reload("animaux"));
+
+            DictionaryRegistry.Dictionary after = registry.get("animaux");
+            assertNotSame(before, after);
+            assertTrue(before.accepts("CHIEN"), "L'ancienne version reste utilisable");
+            assertFalse(after.accepts("CHIEN"));
+            assertEquals("CHIEN", game.getTargetWord());
+            service.checkGuess(game, "chats");
+
+            // Un fichier vidé est ignoré : la version précédente reste en service
+            Files.writeString(dir.resolve("animaux.txt"), "");
+            assertFalse(registry.reload("animaux"));
+            assertSame(after, registry.get("animaux"));
+        }
+    }
+
+    // Vérifie qu'un fichier déposé dans le répertoire surveillé est chargé sans redémarrage.
+    @Test
+    void watcher_shouldLoadNewFile() throws Exception {
+        try (DictionaryRegistry registry = new DictionaryRegistry("fr", dir, Duration.ofMillis(50), true)) {
+            Path tmp = Files.writeString(dir.resolve("couleurs.tmp"), "ROUGE\nVERTE\n");
+            Files.move(tmp, dir.resolve("couleurs.txt"), StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!registry.names().contains("couleurs") && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, registry.get("couleurs").answers().size());
+        }
+    }
+
+    private static WordleService newService(DictionaryRegistry registry) {
+        return WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).dictionaries(registry).build();
+    }
+}
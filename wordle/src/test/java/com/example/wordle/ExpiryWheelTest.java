@@ -0,0 +1,95 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.ExpiryWheel;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiryWheelTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final ExpiryWheel wheel = new ExpiryWheel(Duration.ofMillis(100), nanos::get, false);
+
+    // Vérifie qu'une échéance expire au premier tick qui suit, pas avant.
+    @Test
+    void advance_shouldExpireAtDeadline() {
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(Duration.ofMillis(250), () -> fired.add("a"));
+
+        sleep(Duration.ofMillis(200));
+        assertEquals(0, wheel.advance());
+        sleep(Duration.ofMillis(100));
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.pending());
+    }
+
+    // Vérifie qu'une échéance de plusieurs tours de roue n'expire qu'au bon tour.
+    @Test
+    void advance_longDelay_shouldWaitForRemainingRounds() {
+        ExpiryWheel.Timeout timeout = wheel.schedule(Duration.ofSeconds(120), () -> { });
+
+        sleep(Duration.ofSeconds(119));
+        wheel.advance();
+        assertFalse(timeout.isExpired());
+        sleep(Duration.ofSeconds(1));
+        wheel.advance();
+        assertTrue(timeout.isExpired());
+    }
+
+    // Vérifie qu'une échéance annulée ne s'exécute jamais.
+    @Test
+    void cancel_shouldPreventExpiry() {
+        List<String> fired = new ArrayList<>();
+        ExpiryWheel.Timeout timeout = wheel.schedule(Duration.ofMillis(100), () -> fired.add("a"));
+        wheel.advance();
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        sleep(Duration.ofSeconds(1));
+        wheel.advance();
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.pending());
+    }
+
+    // Vérifie qu'une partie chronométrée abandonnée est terminée et comptée une seule fois.
+    @Test
+    void timedGame_abandoned_shouldBeFinalizedOnce() {
+        InMemoryStatsStore store = new InMemoryStatsStore();
+        try (WordleService service = WordleService.builder(store)
+                .flush(Duration.ofHours(1), 500).expiryWheel(wheel).build()) {
+            WordleGame game = service.startNewGame(5, 2);
+            WordleGame won = service.startNewGame(5, 2);
+            assertEquals(0, wheel.pending(), "L'échéance n'est programmée qu'une fois la partie acceptée");
+            service.armExpiry(game);
+            service.armExpiry(won);
+            service.checkGuess(won, won.getTargetWord());
+            assertEquals(1, wheel.pending(), "La partie gagnée n'a plus d'échéance");
+
+            sleep(Duration.ofSeconds(61));
+            assertEquals(1, wheel.advance());
+            assertTrue(game.isGameOver());
+            assertFalse(game.isWon());
+            assertEquals(0, game.getScore());
+            assertFalse(service.expire(game), "Une partie déjà expirée n'est pas comptée deux fois");
+
+            GameStats stats = service.getStats();
+            assertEquals(2, stats.getTotalGames());
+            assertEquals(1, stats.getWins());
+            assertEquals(1.0, service.getMetrics().getRegistry().get("wordle.games.time.up").counter().count());
+        }
+    }
+
+    private void sleep(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
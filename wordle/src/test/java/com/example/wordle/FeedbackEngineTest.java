@@ -0,0 +1,108 @@
+package com.example.wordle;
+
+import com.example.wordle.service.FeedbackEngine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackEngineTest {
+
+    // Vérifie l'encodage en base 3 (position 0 = chiffre de poids faible).
+    @Test
+    void score_shouldEncodeDigitsInBase3() {
+        long pattern = FeedbackEngine.score("ALERT", "APPLE");
+        assertEquals(FeedbackEngine.HIT, FeedbackEngine.digitAt(pattern, 0));
+        assertEquals(FeedbackEngine.PRESENT, FeedbackEngine.digitAt(pattern, 1));
+        assertEquals(FeedbackEngine.PRESENT, FeedbackEngine.digitAt(pattern, 2));
+        assertEquals(FeedbackEngine.MISS, FeedbackEngine.digitAt(pattern, 3));
+        assertEquals(FeedbackEngine.MISS, FeedbackEngine.digitAt(pattern, 4));
+        assertEquals("[X][O][O][_][_]", FeedbackEngine.render(pattern, 5));
+    }
+
+    // Vérifie la détection d'une partie gagnée, y compris pour un mot de 26 lettres.
+    @Test
+    void isWin_shouldOnlyMatchAllHits() {
+        String longWord = "ANTICONSTITUTIONNELLEMENTS";
+        assertTrue(FeedbackEngine.isWin(FeedbackEngine.score(longWord, longWord), 26));
+        assertFalse(FeedbackEngine.isWin(FeedbackEngine.score("LELLO", "LEVEL"), 5));
+    }
+
+    // Compare le moteur à l'algorithme d'origine (HashMap de fréquences) sur des paires aléatoires.
+    @Test
+    void score_shouldMatchReferenceImplementation() {
+        Random random = new Random(42);
+        int[] counts = new int[FeedbackEngine.COUNTS_SIZE];
+        for (int n = 0; n < 5_000; n++) {
+            int length = 1 + random.nextInt(12);
+            String guess = randomWord(random, length);
+            String target = randomWord(random, length);
+
+            long pattern = FeedbackEngine.score(guess, target);
+            assertEquals(reference(guess, target), FeedbackEngine.render(pattern, length));
+
+            byte[] g = guess.getBytes(StandardCharsets.US_ASCII);
+            byte[] t = target.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(pattern, FeedbackEngine.score(g, 0, t, 0, length, counts));
+        }
+    }
+
+    // Vérifie qu'une lettre accentuée mal placée est signalée présente ([O]), comme une lettre A-Z,
+    // dans la limite de ses occurrences, sur les chaînes comme sur les octets ISO-8859-1.
+    @Test
+    void score_shouldCountAccentedLetters() {
+        int[] counts = new int[FeedbackEngine.COUNTS_SIZE];
+        String[][] pairs = {{"LÉGER", "ÉLÈVE"}, {"ÉTAIS", "ÉTÉES"}, {"ÈÈÈÈÈ", "AÈBÈC"}, {"ÇÀÂÎÔ", "ÔÎÂÀÇ"}};
+        for (String[] pair : pairs) {
+            String guess = pair[0];
+            String target = pair[1];
+            long pattern = FeedbackEngine.score(guess, target);
+            assertEquals(reference(guess, target), FeedbackEngine.render(pattern, target.length()));
+
+            byte[] g = guess.getBytes(StandardCharsets.ISO_8859_1);
+            byte[] t = target.getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(pattern, FeedbackEngine.score(g, 0, t, 0, t.length, counts));
+        }
+        assertEquals("[O][O][_][O][_]", FeedbackEngine.render(FeedbackEngine.score("LÉGER", "ÉLÈVE"), 5));
+    }
+
+    // Petit alphabet pour provoquer beaucoup de lettres en doublon
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('A' + random.nextInt(4));
+        }
+        return new String(chars);
+    }
+
+    private static String reference(String guess, String target) {
+        int length = target.length();
+        Map<Character, Integer> freq = new HashMap<>();
+        for (char c : target.toCharArray()) {
+            freq.put(c, freq.getOrDefault(c, 0) + 1);
+        }
+        String[] result = new String[length];
+        for (int i = 0; i < length; i++) {
+            if (guess.charAt(i) == target.charAt(i)) {
+                result[i] = "[X]";
+                freq.put(guess.charAt(i), freq.get(guess.charAt(i)) - 1);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (result[i] == null) {
+                char g = guess.charAt(i);
+                if (freq.containsKey(g) && freq.get(g) > 0) {
+                    result[i] = "[O]";
+                    freq.put(g, freq.get(g) - 1);
+                } else {
+                    result[i] = "[_]";
+                }
+            }
+        }
+        return String.join("", result);
+    }
+}
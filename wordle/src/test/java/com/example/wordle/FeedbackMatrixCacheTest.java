@@ -0,0 +1,73 @@
+package com.example.wordle;
+
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.FeedbackEngine;
+import com.example.wordle.service.FeedbackMatrixCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackMatrixCacheTest {
+
+    private static final DictionaryIndex DICTIONARY = DictionaryIndex.fromClasspath("listeMots.txt");
+
+    // Vérifie que la matrice contient les mêmes feedbacks que le calcul à la volée.
+    @Test
+    void matrix_shouldMatchFeedbackEngine() {
+        FeedbackMatrixCache cache = cache(6, 64L << 20, null);
+        for (int length = 3; length <= 4; length++) {
+            FeedbackMatrixCache.Matrix matrix = cache.await(length);
+            assertNotNull(matrix);
+            for (int g = 0; g < matrix.count(); g += 7) {
+                for (int t = 0; t < matrix.count(); t += 5) {
+                    String guess = DICTIONARY.wordAt(length, g);
+                    String target = DICTIONARY.wordAt(length, t);
+                    assertEquals(FeedbackEngine.score(guess, target), matrix.get(g, t));
+                }
+            }
+        }
+    }
+
+    // Vérifie qu'une longueur non couverte est calculée à la volée.
+    @Test
+    void pattern_longWords_shouldFallBackToEngine() {
+        FeedbackMatrixCache cache = cache(6, 64L << 20, null);
+        assertNull(cache.await(9));
+        String guess = DICTIONARY.wordAt(9, 10);
+        String target = DICTIONARY.wordAt(9, 20);
+        assertEquals(FeedbackEngine.score(guess, target), cache.pattern(9, 10, 20));
+    }
+
+    // Vérifie que la matrice la moins récemment utilisée est évincée au-delà du budget.
+    @Test
+    void await_overBudget_shouldEvictLeastRecentlyUsed() {
+        // Les matrices 3 et 4 lettres dépassent ensemble 3 Mo, mais chacune tient seule
+        FeedbackMatrixCache cache = cache(6, 3_000_000, null);
+        cache.await(3);
+        int count = cache.await(4).count();
+        assertEquals((long) count * count, cache.usedBytes());
+        assertNull(cache.await(5), "La matrice 5 lettres dépasse le budget à elle seule");
+    }
+
+    // Vérifie que la matrice est enregistrée sur disque puis relue.
+    @Test
+    void await_withDirectory_shouldPersistMatrix(@TempDir Path dir) throws Exception {
+        FeedbackMatrixCache first = cache(6, 64L << 20, dir);
+        long expected = first.await(3).get(1, 2);
+
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.filter(f -> f.toString().endsWith(".bin")).count());
+        }
+        FeedbackMatrixCache second = cache(6, 64L << 20, dir);
+        assertEquals(expected, second.await(3).get(1, 2));
+    }
+
+    private static FeedbackMatrixCache cache(int maxLength, long maxBytes, Path dir) {
+        return new FeedbackMatrixCache(() -> DICTIONARY, maxLength, maxBytes, dir, ForkJoinPool.commonPool());
+    }
+}
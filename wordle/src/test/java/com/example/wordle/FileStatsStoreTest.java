@@ -0,0 +1,41 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.FileStatsStore;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileStatsStoreTest {
+
+    @TempDir
+    Path dir;
+
+    // Vérifie que les statistiques du mode console sont retrouvées au lancement suivant.
+    @Test
+    void stats_shouldSurviveRestart() {
+        Path file = dir.resolve("data").resolve("cli-stats.properties");
+        assertEquals(0, new FileStatsStore(file).loadGlobal().getTotalGames());
+
+        for (int run = 0; run < 2; run++) {
+            try (WordleService service = WordleService.builder(new FileStatsStore(file))
+                    .flush(Duration.ofHours(1), 500).build()) {
+                WordleGame game = service.startNewGame(5, 1);
+                service.checkGuess(game, game.getTargetWord());
+            }
+        }
+
+        GameStats stats = new FileStatsStore(file).loadGlobal();
+        assertEquals(2, stats.getTotalGames());
+        assertEquals(2, stats.getWins());
+        assertEquals(2, stats.getCurrentStreak());
+        assertEquals(2, stats.getTotalAttempts());
+        assertTrue(stats.getTotalScore() > 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.wordle;
+
+import com.example.wordle.controller.BatchResult;
+import com.example.wordle.controller.GameController;
+import com.example.wordle.controller.GameView;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.ExpiryWheel;
+import com.example.wordle.service.HeapGameSessionStore;
+import com.example.wordle.service.SessionRouter;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameControllerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private ExpiryWheel wheel;
+    private WordleService service;
+    private HeapGameSessionStore sessions;
+    private GameController controller;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new ExpiryWheel(Duration.ofMillis(100), clock::get, false);
+        service = WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).expiryWheel(wheel).build();
+        sessions = new HeapGameSessionStore(100, Duration.ofMinutes(10), System::nanoTime);
+        controller = new GameController(service, sessions, null, null, new SessionRouter("", List.of()), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie que les résultats d'un lot d'essais reviennent dans l'ordre, avec une erreur par
+    // élément fautif sans que le reste du lot échoue.
+    @Test
+    void guessBatch_shouldKeepOrderAndReportErrorsPerItem() {
+        List<BatchResult<GameView>> created = controller.createBatch(List.of(
+                new GameController.NewGameRequest(5, 1, null, null, null, null, null, null),
+                new GameController.NewGameRequest(5, 1, null, null, null, null, null, null),
+                new GameController.NewGameRequest(99, 1, null, null, null, null, null, null)));
+        assertEquals(201, created.get(0).status());
+        assertEquals(400, created.get(2).status());
+        String a = created.get(0).result().id();
+        String b = created.get(1).result().id();
+        String target = sessions.get(a).orElseThrow().getTargetWord();
+
+        List<BatchResult<GameController.GuessResponse>> results = controller.guessBatch(List.of(
+                new GameController.BatchGuessRequest(a, "abime"),
+                new GameController.BatchGuessRequest(b, "xyz"),
+                new GameController.BatchGuessRequest(a, target),
+                new GameController.BatchGuessRequest("inconnue", "pomme"),
+                new GameController.BatchGuessRequest(a, "pomme"),
+                new GameController.BatchGuessRequest(b, "abime")));
+
+        assertEquals(List.of(200, 400, 200, 404, 409, 200), results.stream().map(BatchResult::status).toList());
+        assertEquals("Mot invalide (doit faire 5 lettres).", results.get(1).error());
+        assertEquals(1, results.get(0).result().game().guesses().size());
+        assertTrue(results.get(2).result().game().won());
+        assertEquals(List.of("ABIME"), results.get(5).result().game().guesses());
+    }
+
+    // Vérifie qu'une partie chronométrée refusée faute de place n'est jamais comptée à l'échéance,
+    // alors qu'une partie acceptée l'est.
+    @Test
+    void create_timedGameRejectedByFullStore_shouldNotExpire() {
+        sessions = new HeapGameSessionStore(1, Duration.ofMinutes(10), clock::get);
+        controller = new GameController(service, sessions, null, null, new SessionRouter("", List.of()), 10);
+        GameView accepted = controller.create(new GameController.NewGameRequest(5, 2, null, null, null, null, null, null));
+        ResponseStatusException full = assertThrows(ResponseStatusException.class,
+                () -> controller.create(new GameController.NewGameRequest(5, 2, null, null, null, null, null, null)));
+        assertEquals(503, full.getStatusCode().value());
+        assertEquals(1, wheel.pending());
+
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        assertEquals(1, wheel.advance());
+        assertTrue(sessions.get(accepted.id()).orElseThrow().isGameOver());
+        GameStats stats = service.getStats();
+        assertEquals(1, stats.getTotalGames());
+        assertEquals(0, stats.getWins());
+    }
+
+    // Vérifie qu'un lot trop grand est refusé en entier.
+    @Test
+    void batch_shouldRejectOversizedRequests() {
+        List<GameController.BatchGuessRequest> requests =
+                new ArrayList<>(Collections.nCopies(11, new GameController.BatchGuessRequest("x", "pomme")));
+        assertThrows(IllegalArgumentException.class, () -> controller.guessBatch(requests));
+    }
+}
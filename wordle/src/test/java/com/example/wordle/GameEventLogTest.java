@@ -0,0 +1,81 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameEvent;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.GameEventLog;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventLogTest {
+
+    @TempDir
+    Path dir;
+
+    // Vérifie que chaque essai et la fin de partie sont relus dans l'ordre, avec leur contenu.
+    @Test
+    void guessesAndOutcome_shouldBeReplayed() throws Exception {
+        try (GameEventLog events = new GameEventLog(dir, 1 << 20, 64);
+             WordleService service = newService(events)) {
+            WordleGame game = service.startGame("POMME", 1, false);
+            game.setId(UUID.randomUUID().toString());
+            game.setPlayerId("alice");
+            service.checkGuess(game, "abime");
+            service.checkGuess(game, game.getTargetWord());
+            assertTrue(events.flush(Duration.ofSeconds(5)));
+
+            List<GameEvent> replay;
+            try (Stream<GameEvent> stream = GameEventLog.read(dir)) {
+                replay = stream.toList();
+            }
+            assertEquals(3, replay.size());
+            assertEquals(GameEvent.Type.GUESS, replay.get(0).type());
+            assertEquals("ABIME", replay.get(0).word());
+            assertEquals(1, replay.get(0).attempt());
+            assertEquals(game.getTargetWord(), replay.get(1).word());
+            GameEvent finished = replay.get(2);
+            assertEquals(GameEvent.Type.FINISHED, finished.type());
+            assertEquals(game.getId(), finished.gameId());
+            assertEquals("alice", finished.playerId());
+            assertTrue(finished.won());
+            assertEquals(game.getScore(), finished.score());
+            assertEquals(2, finished.attempt());
+        }
+    }
+
+    // Vérifie le passage au segment suivant, et la reprise en fin de journal après redémarrage.
+    @Test
+    void segments_shouldRollAndResumeAfterRestart() throws Exception {
+        int games = 40;
+        for (int run = 0; run < 2; run++) {
+            try (GameEventLog events = new GameEventLog(dir, 1024, 1024);
+                 WordleService service = newService(events)) {
+                for (int i = 0; i < games; i++) {
+                    WordleGame game = service.startNewGame(6, 1);
+                    service.checkGuess(game, game.getTargetWord());
+                }
+                assertTrue(events.flush(Duration.ofSeconds(5)));
+                assertEquals(0, events.dropped());
+            }
+        }
+        try (Stream<Path> files = Files.list(dir); Stream<GameEvent> stream = GameEventLog.read(dir)) {
+            assertTrue(files.count() > 2, "Plusieurs segments attendus");
+            assertEquals(2 * games * 2, stream.count());
+        }
+    }
+
+    private static WordleService newService(GameEventLog events) {
+        return WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).events(events).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.wordle;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.GameSessionStore;
+import com.example.wordle.service.HeapGameSessionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private GameSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new HeapGameSessionStore(2, Duration.ofSeconds(10), clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    // Vérifie qu'une partie ajoutée reçoit un identifiant et peut être retrouvée.
+    @Test
+    void add_shouldAssignIdAndBeRetrievable() {
+        WordleGame game = new WordleGame();
+        assertTrue(store.add(game));
+        assertNotNull(game.getId());
+        assertSame(game, store.get(game.getId()).orElseThrow());
+        assertTrue(store.get("inconnu").isEmpty());
+    }
+
+    // Vérifie que le nombre de sessions est borné.
+    @Test
+    void add_shouldRejectWhenFull() {
+        assertTrue(store.add(new WordleGame()));
+        assertTrue(store.add(new WordleGame()));
+        assertFalse(store.add(new WordleGame()));
+        assertEquals(2, store.size());
+    }
+
+    // Vérifie que seules les sessions inactives sont évincées.
+    @Test
+    void evictIdle_shouldOnlyRemoveIdleSessions() {
+        WordleGame idle = new WordleGame();
+        WordleGame active = new WordleGame();
+        store.add(idle);
+        store.add(active);
+
+        clock.set(Duration.ofSeconds(8).toNanos());
+        store.get(active.getId()); // rafraîchit la session active
+        clock.set(Duration.ofSeconds(12).toNanos());
+
+        assertEquals(1, store.evictIdle());
+        assertTrue(store.get(idle.getId()).isEmpty());
+        assertTrue(store.get(active.getId()).isPresent());
+    }
+
+    // Vérifie qu'une session inactive libère sa place quand le store est plein.
+    @Test
+    void add_whenFull_shouldEvictIdleSessionsFirst() {
+        store.add(new WordleGame());
+        store.add(new WordleGame());
+        clock.set(Duration.ofSeconds(11).toNanos());
+        assertTrue(store.add(new WordleGame()));
+        assertEquals(1, store.size());
+    }
+}
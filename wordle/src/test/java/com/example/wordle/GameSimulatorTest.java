@@ -0,0 +1,90 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameScript;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.GameSimulator;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private InMemoryStatsStore store;
+    private WordleService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStatsStore();
+        service = WordleService.builder(store).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie que des parties générées sur plusieurs threads sont toutes jouées avec le score attendu.
+    @Test
+    void run_generatedGames_shouldMatchExpectedScores() {
+        GameSimulator simulator = new GameSimulator(service, 4);
+        GameSimulator.Report report = simulator.run(simulator.generate(7, 20_000, 5, 1));
+
+        assertEquals(20_000, report.games());
+        assertEquals(0, report.scoreMismatches(), () -> report.mismatchSamples().toString());
+        assertEquals(20_000, Arrays.stream(report.scoreBuckets()).sum());
+        assertTrue(report.p50() <= report.p99() && report.p99() <= report.max());
+
+        service.flushStats();
+        assertEquals(20_000, store.loadGlobal().getTotalGames());
+        assertEquals(report.wins(), store.loadGlobal().getWins());
+    }
+
+    // Vérifie que la génération est reproductible pour une même graine.
+    @Test
+    void generate_sameSeed_shouldGiveSameScripts() {
+        GameSimulator simulator = new GameSimulator(service, 1);
+        Iterator<GameScript> first = simulator.generate(3, 50, 6, 3);
+        Iterator<GameScript> second = simulator.generate(3, 50, 6, 3);
+        while (first.hasNext()) {
+            assertEquals(first.next(), second.next());
+        }
+        assertFalse(second.hasNext());
+    }
+
+    // Vérifie qu'une longueur à un seul mot est refusée : un essai raté retomberait sur la cible.
+    @Test
+    void generate_singleWordLength_shouldBeRejected() {
+        GameSimulator simulator = new GameSimulator(service, 1);
+        assertEquals(1, service.getDictionary().count(26));
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> simulator.generate(1, 10, 26, 1));
+        assertEquals("Un seul mot de longueur 26 : impossible de générer des essais ratés.", exception.getMessage());
+    }
+
+    // Vérifie la lecture des scripts et la détection d'un score inattendu.
+    @Test
+    void run_scripts_shouldReportRejectedGuessesAndMismatches() {
+        String scripts = """
+                # cible;mode;essais;score attendu
+                APPLE;1;LEMON,apple;900
+                APPLE;1;AB,APPLE;1000
+                APPLE;3;LEMON,LEMON,APPLE;999
+                """;
+        GameSimulator.Report report = new GameSimulator(service, 2)
+                .run(GameSimulator.read(new BufferedReader(new StringReader(scripts))));
+
+        assertEquals(3, report.games());
+        assertEquals(3, report.wins());
+        assertEquals(1, report.rejectedGuesses());
+        assertEquals(1, report.scoreMismatches());
+        assertEquals(List.of("APPLE;3;LEMON,LEMON,APPLE;999 -> 800"), report.mismatchSamples());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GuessConstraints;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.FeedbackEngine;
+import com.example.wordle.service.GameStateCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateCodecTest {
+
+    private static final DictionaryIndex DICTIONARY = DictionaryIndex.fromClasspath("listeMots.txt");
+
+    private final GameStateCodec codec = new GameStateCodec();
+
+    // Vérifie qu'une partie encodée puis décodée est identique, dans un enregistrement de taille fixe.
+    @Test
+    void encodeDecode_shouldRoundTrip() {
+        WordleGame game = new WordleGame();
+        game.setId(UUID.randomUUID().toString());
+        game.setPlayerId("joueur-été");
+        game.setTargetWord(DICTIONARY.wordAt(5, 42));
+        game.setWordLength(5);
+        game.setMode(2);
+        game.setTimeLimitSeconds(60);
+        game.setRemainingAttempts(4);
+        game.setGuesses(new ArrayList<>(List.of("ABCDE", "ÉTÉES")));
+        game.setStrictDictionary(true);
+        game.setDailyDate(LocalDate.of(2026, 10, 17));
+        game.setStartNanos(123_456_789_012L);
+        game.setDictionaryName("animaux");
+
+        byte[] record = codec.encode(game);
+        assertEquals(GameStateCodec.recordSize(5), record.length);
+        assertEquals(game, codec.decode(record));
+
+        game.setGameOver(true);
+        game.setWon(true);
+        game.setScore(1234);
+        game.setPlayerId(null);
+        game.setDictionaryName(null);
+        assertEquals(game, codec.decode(codec.encode(game)));
+    }
+
+    // Vérifie qu'une partie en mode difficile retrouve ses contraintes au décodage.
+    @Test
+    void encodeDecode_hardMode_shouldRebuildConstraints() {
+        WordleGame game = new WordleGame();
+        game.setTargetWord("POMME");
+        game.setWordLength(5);
+        game.setConstraints(new GuessConstraints(5));
+        for (String guess : List.of("PAREM", "PIMME")) {
+            game.getGuesses().add(guess);
+            game.getConstraints().apply(guess, FeedbackEngine.score(guess, game.getTargetWord()));
+        }
+
+        WordleGame decoded = codec.decode(codec.encode(game));
+        assertTrue(decoded.isHardMode());
+        assertEquals(game, decoded);
+        assertEquals("La lettre M doit être en position 3.", decoded.getConstraints().violation("PUAME"));
+    }
+
+    // Vérifie que plusieurs parties tiennent côte à côte dans un même buffer.
+    @Test
+    void encode_atOffset_shouldNotOverlap() {
+        int size = GameStateCodec.recordSize(6);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size * 3);
+        for (int i = 0; i < 3; i++) {
+            WordleGame game = new WordleGame();
+            game.setTargetWord(DICTIONARY.wordAt(6, i));
+            game.setWordLength(6);
+            game.getGuesses().add(DICTIONARY.wordAt(6, i + 10));
+            codec.encode(game, buffer, i * size);
+        }
+        for (int i = 0; i < 3; i++) {
+            WordleGame game = codec.decode(buffer, i * size);
+            assertEquals(DICTIONARY.wordAt(6, i), game.getTargetWord());
+            assertEquals(List.of(DICTIONARY.wordAt(6, i + 10)), game.getGuesses());
+        }
+    }
+
+    // Vérifie que le mot cible est encodé tel quel, même absent du dictionnaire (rechargé depuis).
+    @Test
+    void encode_targetOutsideDictionary_shouldRoundTrip() {
+        WordleGame game = new WordleGame();
+        game.setTargetWord("ZZZZZ");
+        assertEquals("ZZZZZ", codec.decode(codec.encode(game)).getTargetWord());
+    }
+
+    // Vérifie qu'une partie impossible à encoder est refusée.
+    @Test
+    void encode_unsupportedGame_shouldThrow() {
+        WordleGame game = new WordleGame();
+        game.setTargetWord("ZZZZ");
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(game));
+
+        game.setTargetWord(DICTIONARY.wordAt(5, 0));
+        game.setPlayerId("x".repeat(GameStateCodec.MAX_PLAYER_ID_BYTES + 1));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(game));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.wordle;
+
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.LetterIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterIndexTest {
+
+    // Vérifie le motif, les lettres présentes (avec répétition), les lettres exclues et la pagination.
+    @Test
+    void match_shouldCombinePatternAndLetterConstraints() {
+        DictionaryRegistry registry = new DictionaryRegistry();
+        DictionaryRegistry.Dictionary dictionary = registry.register("test",
+                DictionaryIndex.of(List.of("ABBES", "ABIME", "ARBRE", "ABEES", "OBESE", "ABLES")), null);
+        LetterIndex index = dictionary.letterIndex(5);
+
+        long[] matches = index.match("aB???", "E", "RS");
+        assertEquals(List.of("ABIME"), index.words(matches, 0, 10));
+
+        matches = index.match("a____", "EE", null);
+        assertEquals(List.of("ABEES"), index.words(matches, 0, 10));
+
+        matches = index.match(null, "B", "Z");
+        assertEquals(6, LetterIndex.count(matches));
+        assertEquals(List.of("ABLES", "ARBRE"), index.words(matches, 3, 2));
+
+        assertEquals(0, LetterIndex.count(index.match("ZZZZZ", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> index.match("AB", null, null));
+        assertThrows(IllegalArgumentException.class, () -> index.match(null, "1", null));
+    }
+
+    // Vérifie que les réponses de l'index sont celles d'un parcours du dictionnaire.
+    @Test
+    void match_shouldAgreeWithScan() {
+        DictionaryRegistry.Dictionary dictionary = new DictionaryRegistry().getDefault();
+        Random random = new Random(7);
+        for (int length : new int[]{5, 9}) {
+            LetterIndex index = dictionary.letterIndex(length);
+            DictionaryIndex answers = dictionary.answers();
+            for (int query = 0; query < 50; query++) {
+                String sample = answers.wordAt(length, random.nextInt(answers.count(length)));
+                char[] pattern = new char[length];
+                for (int p = 0; p < length; p++) {
+                    pattern[p] = random.nextInt(3) == 0 ? sample.charAt(p) : '?';
+                }
+                String contains = String.valueOf(sample.charAt(random.nextInt(length)));
+                String excludes = String.valueOf((char) ('A' + random.nextInt(26)));
+
+                List<String> expected = new ArrayList<>();
+                for (int i = 0; i < answers.count(length); i++) {
+                    String word = answers.wordAt(length, i);
+                    if (matches(word, new String(pattern), contains, excludes)) {
+                        expected.add(word);
+                    }
+                }
+                long[] result = index.match(new String(pattern), contains, excludes);
+                assertEquals(expected.size(), LetterIndex.count(result));
+                assertEquals(expected, index.words(result, 0, Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    private static boolean matches(String word, String pattern, String contains, String excludes) {
+        for (int p = 0; p < word.length(); p++) {
+            if (pattern.charAt(p) != '?' && pattern.charAt(p) != word.charAt(p)) {
+                return false;
+            }
+        }
+        return word.indexOf(contains.charAt(0)) >= 0 && word.indexOf(excludes.charAt(0)) < 0;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.wordle;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.ExpiryWheel;
+import com.example.wordle.service.GameStateCodec;
+import com.example.wordle.service.MappedGameSessionStore;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGameSessionStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private ExpiryWheel wheel;
+    private WordleService service;
+    private GameStateCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new ExpiryWheel(Duration.ofMillis(100), clock::get, false);
+        service = WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).expiryWheel(wheel).build();
+        codec = new GameStateCodec();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie qu'une partie modifiée via update est relue avec ses modifications.
+    @Test
+    void update_shouldPersistChanges() {
+        try (MappedGameSessionStore store = newStore(4, null)) {
+            WordleGame game = service.startNewGame(5, 1);
+            assertTrue(store.add(game));
+            String target = game.getTargetWord();
+
+            store.update(game.getId(), g -> service.checkGuess(g, target));
+
+            WordleGame stored = store.get(game.getId()).orElseThrow();
+            assertNotSame(game, stored);
+            assertTrue(stored.isWon());
+            assertEquals(1000, stored.getScore());
+            assertEquals(1, store.size());
+        }
+    }
+
+    // Vérifie que le nombre de sessions est borné, et qu'une place libérée est réutilisée.
+    @Test
+    void add_shouldRejectWhenFullAndReuseFreedSlots() {
+        try (MappedGameSessionStore store = newStore(2, null)) {
+            WordleGame first = service.startNewGame(4, 1);
+            assertTrue(store.add(first));
+            assertTrue(store.add(service.startNewGame(26, 3)));
+            assertFalse(store.add(service.startNewGame(5, 1)));
+
+            store.remove(first.getId());
+            assertTrue(store.get(first.getId()).isEmpty());
+            assertTrue(store.add(service.startNewGame(5, 1)));
+            assertEquals(2, store.size());
+        }
+    }
+
+    // Vérifie qu'un nœud redémarré sur le même fichier retrouve ses parties en cours.
+    @Test
+    void reopen_shouldRecoverInFlightGames(@TempDir Path dir) {
+        Path file = dir.resolve("sessions.bin");
+        WordleGame game = service.startNewGame(6, 3);
+        try (MappedGameSessionStore store = newStore(8, file)) {
+            store.add(game);
+            store.update(game.getId(), g -> service.checkGuess(g, "ABCDEF"));
+        }
+
+        try (MappedGameSessionStore reopened = newStore(8, file)) {
+            assertEquals(1, reopened.size());
+            WordleGame recovered = reopened.get(game.getId()).orElseThrow();
+            assertEquals(game.getTargetWord(), recovered.getTargetWord());
+            assertEquals(1, recovered.getGuesses().size());
+            assertEquals(9, recovered.getRemainingAttempts());
+        }
+    }
+
+    // Vérifie qu'après un redémarrage, dont l'horloge monotone repart d'ailleurs, une partie
+    // chronométrée garde son temps écoulé et son échéance.
+    @Test
+    void reopen_shouldRebaseTimedGamesOnNewClock(@TempDir Path dir) {
+        Path file = dir.resolve("sessions.bin");
+        WordleGame game = service.startNewGame(5, 2);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        try (MappedGameSessionStore store = newStore(8, file)) {
+            store.add(game);
+        }
+
+        AtomicLong restarted = new AtomicLong(-7_000_000_000L);
+        ExpiryWheel restartedWheel = new ExpiryWheel(Duration.ofMillis(100), restarted::get, false);
+        try (WordleService restartedService = WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).expiryWheel(restartedWheel).build();
+             MappedGameSessionStore reopened = new MappedGameSessionStore(restartedService, codec, 8,
+                     Duration.ofMinutes(30), file, restarted::get)) {
+            WordleGame recovered = reopened.get(game.getId()).orElseThrow();
+            long elapsed = recovered.getElapsedTimeSeconds(restartedService.nanoTime());
+            assertTrue(elapsed >= 10 && elapsed <= 11, "Temps écoulé : " + elapsed);
+
+            restarted.addAndGet(Duration.ofSeconds(49).toNanos());
+            assertEquals(0, restartedWheel.advance());
+            restarted.addAndGet(Duration.ofSeconds(2).toNanos());
+            assertEquals(1, restartedWheel.advance());
+            assertTrue(reopened.get(game.getId()).orElseThrow().isGameOver());
+        }
+    }
+
+    // Vérifie qu'une partie chronométrée hors du tas est terminée à l'échéance, dans le store.
+    @Test
+    void timedGame_shouldExpireInStore() {
+        try (MappedGameSessionStore store = newStore(4, null)) {
+            WordleGame game = service.startNewGame(5, 2);
+            store.add(game);
+            String id = game.getId();
+            service.scheduleExpiry(game, () -> store.update(id, service::expire));
+
+            clock.addAndGet(Duration.ofSeconds(61).toNanos());
+            assertEquals(1, wheel.advance());
+
+            WordleGame stored = store.get(game.getId()).orElseThrow();
+            assertTrue(stored.isGameOver());
+            assertFalse(stored.isWon());
+            assertEquals(1, service.getStats().getTotalGames());
+        }
+    }
+
+    private MappedGameSessionStore newStore(int max, Path file) {
+        return new MappedGameSessionStore(service, codec, max, Duration.ofMinutes(30), file, clock::get);
+    }
+}
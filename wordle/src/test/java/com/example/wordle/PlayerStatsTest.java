@@ -0,0 +1,85 @@
+package com.example.wordle;
+
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.model.PlayerStatsDelta;
+import com.example.wordle.model.WordleGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerStatsTest {
+
+    // Vérifie les séries d'un joueur après application d'un delta.
+    @Test
+    void apply_shouldContinueCurrentStreak() {
+        PlayerStats stats = new PlayerStats();
+        stats.setCurrentStreak(2);
+        stats.setBestStreak(2);
+
+        PlayerStatsDelta delta = new PlayerStatsDelta("alice");
+        delta.record(game(true, 900));
+        delta.record(game(true, 800));
+        delta.record(game(false, 0));
+        delta.record(game(true, 1000));
+        stats.apply(delta);
+
+        assertEquals(4, stats.getBestStreak(), "2 persistées + 2 victoires en tête du delta");
+        assertEquals(1, stats.getCurrentStreak());
+        assertEquals(4, stats.getTotalGames());
+        assertEquals(3, stats.getWins());
+        assertEquals(2700, stats.getTotalScore());
+    }
+
+    // Vérifie qu'écrire en plusieurs lots donne le même résultat qu'en un seul.
+    @Test
+    void deltas_splitAnywhere_shouldGiveSameStatsAsSingleBatch() {
+        Random random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            boolean[] results = new boolean[1 + random.nextInt(20)];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = random.nextInt(3) > 0;
+            }
+            int split1 = random.nextInt(results.length + 1);
+            int split2 = split1 + random.nextInt(results.length - split1 + 1);
+
+            PlayerStats single = new PlayerStats();
+            single.apply(delta(results, 0, results.length));
+
+            PlayerStats batched = new PlayerStats();
+            batched.apply(delta(results, 0, split1));
+            batched.apply(delta(results, split1, split2));
+            batched.apply(delta(results, split2, results.length));
+
+            // Deux deltas fusionnés avant écriture (cas d'une écriture en échec)
+            PlayerStatsDelta merged = delta(results, 0, split1);
+            merged.append(delta(results, split1, results.length));
+            PlayerStats restored = new PlayerStats();
+            restored.apply(merged);
+
+            for (PlayerStats other : new PlayerStats[]{batched, restored}) {
+                assertEquals(single.getCurrentStreak(), other.getCurrentStreak());
+                assertEquals(single.getBestStreak(), other.getBestStreak());
+                assertEquals(single.getTotalGames(), other.getTotalGames());
+                assertEquals(single.getWins(), other.getWins());
+            }
+        }
+    }
+
+    private static PlayerStatsDelta delta(boolean[] results, int from, int to) {
+        PlayerStatsDelta delta = new PlayerStatsDelta("joueur");
+        for (int i = from; i < to; i++) {
+            delta.record(game(results[i], results[i] ? 500 : 0));
+        }
+        return delta;
+    }
+
+    private static WordleGame game(boolean won, int score) {
+        WordleGame game = new WordleGame();
+        game.setWon(won);
+        game.setScore(score);
+        game.getGuesses().add("POMME");
+        return game;
+    }
+}
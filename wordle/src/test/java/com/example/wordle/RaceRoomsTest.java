@@ -0,0 +1,144 @@
+package com.example.wordle;
+
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.RaceRooms;
+import com.example.wordle.service.WordleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RaceRoomsTest {
+
+    private WordleService service;
+
+    @BeforeEach
+    void setUp() {
+        DictionaryRegistry registry = new DictionaryRegistry();
+        registry.register("course", DictionaryIndex.of(List.of("POMME")), null);
+        service = WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500).dictionaries(registry).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie que les essais de plusieurs joueurs partent en un seul message par abonné,
+    // avec le feedback et le classement mais sans les lettres.
+    @Test
+    void guesses_shouldBeBatchedAndHideLetters() throws Exception {
+        try (RaceRooms races = new RaceRooms(service, Duration.ofMinutes(1), 16, Duration.ofSeconds(5), 2,
+                Duration.ofHours(1), false)) {
+            races.create("r1", "course", 5, false);
+            List<Recorder> subscribers = List.of(new Recorder(), new Recorder(), new Recorder());
+            for (Recorder subscriber : subscribers) {
+                assertNotNull(races.subscribe("r1", subscriber));
+            }
+            races.join("r1", "alice");
+            races.join("r1", "bob");
+            races.guess("r1", "alice", "abime", (game, pattern) -> pattern);
+            races.guess("r1", "bob", "pomme", (game, pattern) -> pattern);
+            races.dispatch();
+
+            assertEquals(1, races.batches());
+            for (Recorder subscriber : subscribers) {
+                // État initial (salle vide) puis un seul message pour les quatre progressions
+                assertTrue(subscriber.await(2), subscriber.messages.toString());
+                String batch = subscriber.messages.get(1);
+                assertTrue(batch.contains("\"playerId\":\"alice\""), batch);
+                assertTrue(batch.contains("\"rank\":1"), batch);
+                assertFalse(batch.contains("POMME") || batch.contains("ABIME"), batch);
+            }
+            assertNull(races.subscribe("inconnue", new Recorder()));
+        }
+    }
+
+    // Vérifie qu'un abonné bloqué ne retient pas les autres et que sa file reste bornée :
+    // à la reprise, il reçoit l'état courant de la salle au lieu de l'historique.
+    @Test
+    void slowSubscriber_shouldNotDelayOthers() throws Exception {
+        try (RaceRooms races = new RaceRooms(service, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), 2,
+                Duration.ofHours(1), false)) {
+            races.create("r1", "course", 5, false);
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Recorder slow = new Recorder() {
+                @Override
+                public void send(String message) {
+                    blocked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.send(message);
+                }
+            };
+            Recorder fast = new Recorder();
+            races.subscribe("r1", slow);
+            races.subscribe("r1", fast);
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            String[] players = {"p1", "p2", "p3", "p4", "p5", "p6"};
+            for (String player : players) {
+                races.join("r1", player);
+                races.dispatch();
+            }
+            races.guess("r1", "p6", "pomme", (game, pattern) -> pattern);
+            races.dispatch();
+
+            // L'abonné rapide reçoit la victoire pendant que l'autre est encore bloqué
+            assertTrue(fast.awaitMessage("\"won\":true"), fast.messages.toString());
+            assertTrue(races.dropped() > 0);
+
+            release.countDown();
+            // État initial, puis l'état courant qui a remplacé les sept messages en retard
+            assertTrue(slow.await(2), slow.messages.toString());
+            String last = slow.messages.get(slow.messages.size() - 1);
+            for (String player : players) {
+                assertTrue(last.contains("\"playerId\":\"" + player + "\""), last);
+            }
+            assertTrue(last.contains("\"won\":true"), last);
+        }
+    }
+
+    private static class Recorder implements RaceRooms.Subscriber {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return messages.size() >= count;
+        }
+
+        boolean awaitMessage(String content) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.stream().noneMatch(m -> m.contains(content)) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return messages.stream().anyMatch(m -> m.contains(content));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.wordle;
+
+import com.example.wordle.service.SessionRouter;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRouterTest {
+
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    // Vérifie que sans cluster configuré, toutes les parties sont locales.
+    @Test
+    void singleNode_shouldOwnEverything() {
+        SessionRouter router = new SessionRouter("", List.of());
+        assertTrue(router.isLocal(UUID.randomUUID().toString()));
+    }
+
+    // Vérifie que les parties sont réparties à peu près également et identiquement sur chaque nœud.
+    @Test
+    void owner_shouldSpreadEvenlyAndAgreeAcrossNodes() {
+        SessionRouter a = new SessionRouter("http://a:8080", NODES);
+        SessionRouter b = new SessionRouter("http://b:8080", NODES);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            String id = UUID.randomUUID().toString();
+            assertEquals(a.owner(id), b.owner(id));
+            counts.merge(a.owner(id), 1, Integer::sum);
+        }
+        for (String node : NODES) {
+            assertTrue(counts.get(node) > 8_000, node + " : " + counts.get(node));
+        }
+    }
+
+    // Vérifie qu'ajouter un nœud ne déplace qu'une partie des sessions, toutes vers le nouveau nœud.
+    @Test
+    void addingNode_shouldOnlyMoveSessionsToNewNode() {
+        SessionRouter before = new SessionRouter("http://a:8080", NODES);
+        SessionRouter after = new SessionRouter("http://a:8080",
+                List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"));
+        int moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String id = UUID.randomUUID().toString();
+            if (!before.owner(id).equals(after.owner(id))) {
+                assertEquals("http://d:8080", after.owner(id));
+                moved++;
+            }
+        }
+        assertTrue(moved > 1_500 && moved < 3_500, "Parties déplacées : " + moved);
+    }
+
+    // Vérifie qu'un nœud crée des identifiants qui lui reviennent.
+    @Test
+    void newLocalId_shouldBeOwnedBySelf() {
+        SessionRouter router = new SessionRouter("http://b:8080", NODES);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(router.isLocal(router.newLocalId()));
+        }
+    }
+}
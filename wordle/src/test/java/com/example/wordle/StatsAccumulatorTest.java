@@ -0,0 +1,131 @@
+package com.example.wordle;
+
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.StatsAccumulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsAccumulatorTest {
+
+    // Vérifie qu'aucune mise à jour n'est perdue avec plusieurs threads écrivains.
+    @Test
+    void record_concurrentWriters_shouldNotLoseUpdates() throws Exception {
+        StatsAccumulator stats = new StatsAccumulator();
+        int threads = 8;
+        int gamesPerThread = 10_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String player = "joueur" + t;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    stats.record(finishedGame(player, i % 2 == 0, 3, 800));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        GameStats snapshot = stats.snapshot();
+        assertEquals(threads * gamesPerThread, snapshot.getTotalGames());
+        assertEquals(threads * gamesPerThread / 2, snapshot.getWins());
+        assertEquals(threads * gamesPerThread * 3, snapshot.getTotalAttempts());
+        assertEquals(3.0, snapshot.getAverageAttempts(), 0.001);
+        assertEquals(1, stats.getBestStreak());
+    }
+
+    // Vérifie qu'un instantané pris pendant des écritures ne montre jamais une victoire sans sa série.
+    @Test
+    void snapshot_concurrentWithRecord_shouldNeverShowWinWithoutStreak() throws Exception {
+        StatsAccumulator stats = new StatsAccumulator();
+        int threads = 4;
+        int gamesPerThread = 20_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    stats.record(finishedGame("alice", true, 2, 900));
+                }
+            }));
+        }
+        // Un seul joueur, toujours gagnant : sa série compte toutes ses victoires déjà comptées
+        int snapshots = 0;
+        while (futures.stream().anyMatch(f -> !f.isDone())) {
+            GameStats snapshot = stats.snapshot("alice");
+            assertTrue(snapshot.getCurrentStreak() >= snapshot.getWins(),
+                    snapshot.getWins() + " victoires, série de " + snapshot.getCurrentStreak());
+            snapshots++;
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        GameStats last = stats.snapshot("alice");
+        assertEquals(threads * gamesPerThread, last.getWins());
+        assertEquals(threads * gamesPerThread, last.getCurrentStreak());
+        assertTrue(snapshots > 0);
+    }
+
+    // Vérifie que les séries sont suivies indépendamment pour chaque joueur.
+    @Test
+    void record_shouldTrackStreaksPerPlayer() {
+        StatsAccumulator stats = new StatsAccumulator();
+        stats.record(finishedGame("alice", true, 2, 900));
+        stats.record(finishedGame("bob", false, 6, 500));
+        stats.record(finishedGame("alice", true, 4, 700));
+        stats.record(finishedGame("bob", true, 1, 1000));
+
+        assertEquals(2, stats.snapshot("alice").getCurrentStreak());
+        assertEquals(2, stats.snapshot("alice").getBestStreak());
+        assertEquals(1, stats.snapshot("bob").getCurrentStreak());
+        assertEquals(4, stats.snapshot().getTotalGames());
+        assertEquals(3, stats.snapshot().getWins());
+    }
+
+    // Vérifie que les valeurs persistées servent de point de départ.
+    @Test
+    void constructor_shouldStartFromPersistedStats() {
+        GameStats initial = new GameStats();
+        initial.setId(7L);
+        initial.setTotalGames(10);
+        initial.setWins(4);
+        initial.setCurrentStreak(2);
+        initial.setBestStreak(3);
+
+        StatsAccumulator stats = new StatsAccumulator(initial);
+        stats.record(finishedGame(null, true, 1, 1000));
+
+        GameStats snapshot = stats.snapshot();
+        assertEquals(7L, snapshot.getId());
+        assertEquals(11, snapshot.getTotalGames());
+        assertEquals(5, snapshot.getWins());
+        assertEquals(3, snapshot.getCurrentStreak());
+        assertEquals(3, snapshot.getBestStreak());
+    }
+
+    private static WordleGame finishedGame(String player, boolean won, int attempts, int score) {
+        WordleGame game = new WordleGame();
+        game.setPlayerId(player);
+        game.setWon(won);
+        game.setGameOver(true);
+        game.setScore(score);
+        for (int i = 0; i < attempts; i++) {
+            game.getGuesses().add("POMME");
+        }
+        return game;
+    }
+}
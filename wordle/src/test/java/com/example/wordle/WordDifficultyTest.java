@@ -0,0 +1,96 @@
+package com.example.wordle;
+
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.DictionaryRegistry;
+import com.example.wordle.service.WordDifficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordDifficultyTest {
+
+    @TempDir
+    Path dir;
+
+    // Vérifie que le tirage par niveau suit la réussite des mots, et que sans niveau il reste uniforme.
+    @Test
+    void pick_shouldFollowSolveRates() {
+        DictionaryRegistry registry = new DictionaryRegistry();
+        DictionaryRegistry.Dictionary dictionary = registry.register("test",
+                DictionaryIndex.of(List.of("AAAAA", "BBBBB", "CCCCC")), null);
+        WordDifficulty difficulty = new WordDifficulty(registry);
+        for (int i = 0; i < 200; i++) {
+            difficulty.record(dictionary, finishedGame("AAAAA", false, 6));
+            difficulty.record(dictionary, finishedGame("BBBBB", true, 2));
+        }
+
+        Map<String, Integer> all = sample(difficulty, dictionary, null);
+        assertTrue(all.getOrDefault("AAAAA", 0) > 800, all.toString());
+
+        Map<String, Integer> easy = sample(difficulty, dictionary, WordDifficulty.Tier.EASY);
+        assertTrue(easy.getOrDefault("BBBBB", 0) > 2000, easy.toString());
+
+        Map<String, Integer> hard = sample(difficulty, dictionary, WordDifficulty.Tier.HARD);
+        assertTrue(hard.getOrDefault("CCCCC", 0) > 2000, hard.toString());
+
+        WordDifficulty.WordStats stats = difficulty.stats(dictionary, "BBBBB");
+        assertEquals(200, stats.plays());
+        assertEquals(200, stats.wins());
+        assertEquals(2.0, stats.averageGuesses());
+    }
+
+    // Vérifie que les compteurs survivent à une sauvegarde et à un rechargement de la liste.
+    @Test
+    void counters_shouldSurviveCheckpointAndDictionaryReload() throws Exception {
+        DictionaryRegistry registry = new DictionaryRegistry();
+        DictionaryRegistry.Dictionary dictionary = registry.register("test",
+                DictionaryIndex.of(List.of("CHIEN", "LOUPS")), null);
+        Path file = dir.resolve("difficulty.bin");
+        try (WordDifficulty difficulty = new WordDifficulty(registry, file, Duration.ZERO, Duration.ZERO)) {
+            difficulty.record(dictionary, finishedGame("LOUPS", true, 3));
+            difficulty.record(dictionary, finishedGame("LOUPS", false, 6));
+            difficulty.checkpoint();
+        }
+
+        WordDifficulty reloaded = new WordDifficulty(registry, file, Duration.ZERO, Duration.ZERO);
+        assertEquals(2, reloaded.stats(dictionary, "LOUPS").plays());
+
+        // Nouvelle version de la liste : LOUPS change de position
+        DictionaryRegistry.Dictionary updated = registry.register("test",
+                DictionaryIndex.of(List.of("CHIEN", "LIONS", "LOUPS")), null);
+        WordDifficulty.WordStats stats = reloaded.stats(updated, "LOUPS");
+        assertEquals(2, stats.plays());
+        assertEquals(1, stats.wins());
+        assertEquals(3.0, stats.averageGuesses());
+        assertEquals(0, reloaded.stats(updated, "LIONS").plays());
+    }
+
+    private static Map<String, Integer> sample(WordDifficulty difficulty, DictionaryRegistry.Dictionary dictionary,
+                                               WordDifficulty.Tier tier) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            counts.merge(difficulty.pick(dictionary, 5, tier), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static WordleGame finishedGame(String target, boolean won, int guesses) {
+        WordleGame game = new WordleGame();
+        game.setTargetWord(target);
+        game.setWordLength(target.length());
+        game.setGameOver(true);
+        game.setWon(won);
+        for (int i = 0; i < guesses; i++) {
+            game.getGuesses().add(target);
+        }
+        return game;
+    }
+}
@@ -2,23 +2,30 @@ package com.example.wordle;
 
 import com.example.wordle.model.GameStats;
 import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.InMemoryStatsStore;
+import com.example.wordle.service.DictionaryIndex;
+import com.example.wordle.service.ExpiryWheel;
 import com.example.wordle.service.WordleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.example.wordle.repository.GameStatsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.mockito.Mockito;
 import static org.junit.jupiter.api.Assertions.*;
-import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 class WordleServiceTest {
 
     private WordleService service;
+    private GameStatsRepository mockRepo;
 
     @BeforeEach
     void setUp() {
-        GameStatsRepository mockRepo = Mockito.mock(GameStatsRepository.class);
+        mockRepo = Mockito.mock(GameStatsRepository.class);
 
         // Simule un GameStats vide pour que l'init fonctionne sans erreur
         List<GameStats> statsList = new ArrayList<>();
@@ -147,21 +154,169 @@ class WordleServiceTest {
         assertEquals(0, game.getRemainingAttempts());
     }
 
+    // Vérifie qu'un essai déjà en majuscules est gardé tel quel (aucune copie), et qu'un essai en
+    // minuscules est mis en majuscules lettre par lettre, sans changer de longueur.
+    @Test
+    void checkGuess_shouldNormalizeWithoutCopyingUppercaseGuess() {
+        WordleGame game = service.startGame("POMME", 3, false);
+        String upper = new String("ABIME");
+        service.checkGuess(game, upper);
+        service.checkGuess(game, "pommé");
+        service.checkGuess(game, "straß");
+
+        assertSame(upper, game.getGuesses().get(0));
+        assertEquals(List.of("ABIME", "POMMÉ", "STRAß"), game.getGuesses());
+    }
+
     // Vérifie qu'une exception est lancée si le temps est écoulé en mode chrono.
     @Test
     void checkGuess_timeUp() {
-        WordleGame game = new WordleGame();
-        game.setTargetWord("APPLE");
-        game.setWordLength(5);
-        game.setTimeLimitSeconds(1);
-        game.setStartTimeMillis(System.currentTimeMillis() - 2000); // simule 2s écoulées
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        try (WordleService timed = timedService(clock)) {
+            WordleGame game = timed.startGame("APPLE", 2, false);
+            clock.addAndGet(Duration.ofSeconds(59).toNanos());
+            timed.checkGuess(game, "ALERT");
+            clock.addAndGet(Duration.ofSeconds(1).toNanos()); // 60 s écoulées
+
+            Exception exception = assertThrows(IllegalStateException.class, () -> {
+                timed.checkGuess(game, "ALERT");
+            });
+
+            assertEquals("Temps écoulé !", exception.getMessage());
+            assertTrue(game.isGameOver());
+        }
+    }
+
+    // Vérifie que le temps de partie ne dépend que de l'horloge monotone du service,
+    // pas de la date système.
+    @Test
+    void timedGame_shouldUseServiceClock() {
+        AtomicLong clock = new AtomicLong(-5_000_000_000L); // Une horloge monotone peut être négative
+        try (WordleService timed = timedService(clock)) {
+            WordleGame game = timed.startGame("APPLE", 2, false);
+            assertEquals(clock.get(), game.getStartNanos());
+            clock.addAndGet(Duration.ofSeconds(42).toNanos());
+            assertEquals(42, game.getElapsedTimeSeconds(timed.nanoTime()));
+            assertFalse(timed.isTimeUp(game));
+        }
+    }
+
+    // Vérifie qu'un essai joué après l'expiration par la roue n'est pas enregistré dans la partie.
+    @Test
+    void checkGuess_afterWheelExpiry_shouldNotRecordGuess() {
+        AtomicLong clock = new AtomicLong();
+        ExpiryWheel wheel = new ExpiryWheel(Duration.ofMillis(100), clock::get, false);
+        try (WordleService timed = WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500)
+                .expiryWheel(wheel)
+                .build()) {
+            WordleGame game = timed.startGame("APPLE", 2, false);
+            timed.armExpiry(game);
+            clock.addAndGet(Duration.ofSeconds(61).toNanos());
+            assertEquals(1, wheel.advance());
+
+            Exception exception = assertThrows(IllegalStateException.class, () -> timed.checkGuess(game, "ALERT"));
+            assertEquals("Temps écoulé !", exception.getMessage());
+            assertTrue(game.getGuesses().isEmpty());
+            assertEquals(6, game.getRemainingAttempts());
+        }
+    }
+
+    // Vérifie qu'une partie terminée refuse les essais suivants.
+    @Test
+    void checkGuess_onFinishedGame_shouldThrow() {
+        WordleGame game = service.startGame("APPLE", 1, false);
+        service.checkGuess(game, "APPLE");
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> service.checkGuess(game, "ALERT"));
+        assertEquals("La partie est terminée.", exception.getMessage());
+        assertEquals(List.of("APPLE"), game.getGuesses());
+    }
+
+    // Vérifie qu'un essai attend le verrou de la partie (celui que prend expire sur le thread de la roue).
+    @Test
+    void checkGuess_shouldHoldGameLock() throws Exception {
+        WordleGame game = service.startGame("APPLE", 1, false);
+        Thread player = new Thread(() -> service.checkGuess(game, "ALERT"));
+        synchronized (game) {
+            player.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (player.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(Thread.State.BLOCKED, player.getState());
+            assertTrue(game.getGuesses().isEmpty());
+        }
+        player.join();
+        assertEquals(List.of("ALERT"), game.getGuesses());
+    }
 
-        Exception exception = assertThrows(IllegalStateException.class, () -> {
-            service.checkGuess(game, "ALERT");
+    // Vérifie qu'en mode strict un mot hors dictionnaire est refusé sans consommer d'essai.
+    @Test
+    void checkGuess_strictMode_shouldRejectUnknownWord() {
+        WordleGame game = service.startNewGame(5, 1, true);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            service.checkGuess(game, "ZZZZZ");
         });
 
-        assertEquals("Temps écoulé !", exception.getMessage());
-        assertTrue(game.isGameOver());
+        assertEquals("Mot inconnu du dictionnaire.", exception.getMessage());
+        assertEquals(6, game.getRemainingAttempts());
+        assertTrue(game.getGuesses().isEmpty());
+
+        service.checkGuess(game, "pomme");
+        assertEquals(5, game.getRemainingAttempts());
+    }
+
+    // Vérifie qu'en mode difficile les [X] doivent rester en place, les [O] être réutilisés et les
+    // lettres absentes évitées ; un essai refusé ne consomme pas d'essai.
+    @Test
+    void checkGuess_hardMode_shouldEnforceRevealedHints() {
+        WordleGame game = service.startGame("POMME", 3, false);
+        service.enableHardMode(game);
+        assertTrue(game.isHardMode());
+
+        // Deux M révélés dont un en position 3, A et S absents
+        assertEquals("[O][_][X][_][_]", service.checkGuess(game, "mamas"));
+        assertEquals("Le mot doit contenir 2 fois la lettre M.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "lemon")).getMessage());
+        assertEquals("La lettre S n'est pas dans le mot.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "simme")).getMessage());
+
+        assertEquals("[_][_][X][X][X]", service.checkGuess(game, "limme"));
+        assertEquals("La lettre M doit être en position 4.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "pomem")).getMessage());
+        assertEquals(8, game.getRemainingAttempts());
+        service.checkGuess(game, "pomme");
+        assertTrue(game.isWon());
+    }
+
+    // Vérifie qu'en mode difficile les lettres accentuées sont suivies comme les lettres A-Z.
+    @Test
+    void checkGuess_hardMode_shouldEnforceAccentedHints() {
+        WordleGame game = service.startGame("ÉLÈVE", 3, false);
+        service.enableHardMode(game);
+
+        // L et È présents, Ç et H absents, E en position 5
+        assertEquals("[O][O][_][_][X]", service.checkGuess(game, "lèçhe"));
+        assertEquals("La lettre Ç n'est pas dans le mot.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "çlève")).getMessage());
+        assertEquals("Le mot doit contenir la lettre È.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "éléve")).getMessage());
+
+        assertEquals("[_][X][X][X][X]", service.checkGuess(game, "plève"));
+        assertEquals("La lettre È doit être en position 3.",
+                assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "éleve")).getMessage());
+        service.checkGuess(game, "élève");
+        assertTrue(game.isWon());
+    }
+
+    // Vérifie qu'hors mode strict tout mot de la bonne taille est accepté.
+    @Test
+    void checkGuess_defaultMode_shouldAcceptUnknownWord() {
+        WordleGame game = service.startNewGame(5, 1);
+        assertFalse(game.isStrictDictionary());
+        assertNotNull(service.checkGuess(game, "ZZZZZ"));
     }
 
     // Vérifie qu'un essai avec lettres en doublon renvoie le bon feedback.
@@ -233,6 +388,58 @@ class WordleServiceTest {
         assertNotNull(svc.getStats(), "Les stats devraient être initialisées même si la BDD est vide");
     }
 
+    // Vérifie qu'une partie terminée n'est pas écrite en base immédiatement, mais au flush.
+    @Test
+    void finishedGame_shouldBePersistedOnFlushOnly() {
+        WordleGame game = new WordleGame();
+        game.setTargetWord("APPLE");
+        game.setWordLength(5);
+
+        service.checkGuess(game, "APPLE");
+        Mockito.verify(mockRepo, Mockito.never()).save(Mockito.any());
+
+        service.flushStats();
+        Mockito.verify(mockRepo, Mockito.times(1)).save(Mockito.argThat(s -> s.getTotalGames() == 1 && s.getWins() == 1));
+
+        // Rien en attente : pas de nouvelle écriture
+        service.flushStats();
+        Mockito.verify(mockRepo, Mockito.times(1)).save(Mockito.any());
+    }
+
+    // Vérifie que les statistiques en attente sont écrites à la fermeture du service.
+    @Test
+    void close_shouldFlushPendingStats() {
+        WordleGame game = new WordleGame();
+        game.setTargetWord("APPLE");
+        game.setWordLength(5);
+        game.setRemainingAttempts(1);
+        service.checkGuess(game, "LEMON");
+
+        service.close();
+
+        Mockito.verify(mockRepo).save(Mockito.argThat(s -> s.getTotalGames() == 1 && s.getWins() == 0));
+    }
+
+    // Vérifie que les parties, essais et écritures en base sont comptabilisés dans les métriques.
+    @Test
+    void metrics_shouldCountGamesGuessesAndPersistence() {
+        MeterRegistry registry = service.getMetrics().getRegistry();
+
+        WordleGame game = service.startNewGame(5, 2);
+        game.setTargetWord("APPLE");
+        assertThrows(IllegalArgumentException.class, () -> service.checkGuess(game, "AB"));
+        service.checkGuess(game, "LEMON");
+        service.checkGuess(game, "APPLE");
+        service.flushStats();
+
+        assertEquals(1, registry.get("wordle.games.started").tags("mode", "chrono", "length", "5").counter().count());
+        assertEquals(2, registry.get("wordle.guesses").counter().count());
+        assertEquals(1, registry.get("wordle.guesses.rejected").counter().count());
+        assertEquals(1, registry.get("wordle.games.finished").tag("outcome", "win").counter().count());
+        assertEquals(1.0, registry.get("wordle.games.win.ratio").gauge().value());
+        assertEquals(1, registry.get("wordle.stats.persist").timer().count());
+    }
+
     // Vérifie que getAverageAttempts() retourne la bonne moyenne des tentatives
     @Test
     void getAverageAttempts_shouldReturnCorrectAverage() {
@@ -296,16 +503,16 @@ class WordleServiceTest {
     // Vérifie que le score est boosté par le temps restant en mode chrono
     @Test
     void checkGuess_winInChronoMode_shouldAddBonus() {
-        WordleGame game = new WordleGame();
-        game.setTargetWord("APPLE");
-        game.setWordLength(5);
-        game.setMode(2);
-        game.setTimeLimitSeconds(60);
-        game.setStartTimeMillis(System.currentTimeMillis());
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        try (WordleService timed = timedService(clock)) {
+            WordleGame game = timed.startGame("APPLE", 2, false);
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
 
-        service.checkGuess(game, "APPLE");
+            timed.checkGuess(game, "APPLE");
 
-        assertTrue(game.getScore() > 1000, "Le score devrait être boosté par le temps restant en mode chrono");
+            // 50 s restantes, 5 points par seconde
+            assertEquals(1250, game.getScore(), "Le score devrait être boosté par le temps restant en mode chrono");
+        }
     }
 
     // Vérifie que le score n'est pas boosté si la partie est perdue en mode chrono
@@ -316,7 +523,7 @@ class WordleServiceTest {
         game.setWordLength(5);
         game.setMode(2); // chrono mode
         game.setTimeLimitSeconds(60);
-        game.setStartTimeMillis(System.currentTimeMillis());
+        game.setStartNanos(service.nanoTime());
 
         // Mauvais mot
         game.setRemainingAttempts(1);
@@ -350,6 +557,71 @@ class WordleServiceTest {
         assertTrue(max >= min, "La longueur maximale doit être >= la longueur minimale");
     }
 
+    // Vérifie que l'index couvre toutes les longueurs du fichier (1 à 26 lettres).
+    @Test
+    void getMinMaxWordLength_shouldMatchDictionaryFile() {
+        assertEquals(1, service.getMinWordLength());
+        assertEquals(26, service.getMaxWordLength());
+    }
+
+    // Vérifie que chaque longueur disponible donne un mot de la bonne taille, en majuscules.
+    @Test
+    void startNewGame_everyLength_shouldPickWordOfThatLength() {
+        for (int length = service.getMinWordLength(); length <= service.getMaxWordLength(); length++) {
+            WordleGame game = service.startNewGame(length, 1);
+            assertEquals(length, game.getTargetWord().length());
+            assertEquals(game.getTargetWord().toUpperCase(), game.getTargetWord());
+        }
+    }
+
+    // Teste l'index construit à partir d'une liste de mots.
+    @Test
+    void dictionaryIndex_shouldBucketWordsByLength() {
+        DictionaryIndex index = DictionaryIndex.of(List.of("chat", "CHIEN", "Loup", "a"));
+        assertEquals(4, index.size());
+        assertEquals(1, index.getMinLength());
+        assertEquals(5, index.getMaxLength());
+        assertEquals(2, index.count(4));
+        assertEquals(0, index.count(3));
+        assertEquals("CHAT", index.wordAt(4, 0));
+        assertEquals("CHIEN", index.randomWord(5));
+        assertThrows(IllegalArgumentException.class, () -> index.randomWord(3));
+    }
+
+    // Vérifie que le dictionnaire binaire précompilé contient les mêmes mots que le fichier texte.
+    @Test
+    void dictionaryIndex_binarySnapshot_shouldMatchTextFile() throws Exception {
+        List<String> lines;
+        try (var in = getClass().getClassLoader().getResourceAsStream("listeMots.txt")) {
+            assertNotNull(in);
+            lines = new String(in.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8).lines().toList();
+        }
+        DictionaryIndex fromText = DictionaryIndex.of(lines);
+        DictionaryIndex fromSnapshot = DictionaryIndex.fromClasspath("listeMots.txt");
+
+        assertEquals(fromText.size(), fromSnapshot.size());
+        for (int length = 1; length <= 26; length++) {
+            assertArrayEquals(fromText.copyBucket(length), fromSnapshot.copyBucket(length));
+        }
+        // Doublons et minuscules du fichier source
+        assertTrue(fromSnapshot.size() < lines.size());
+    }
+
+    // Vérifie que chaque mot du dictionnaire est retrouvé à sa position, et pas les autres.
+    @Test
+    void dictionaryIndex_indexOf_shouldFindEveryWord() {
+        DictionaryIndex index = DictionaryIndex.fromClasspath("listeMots.txt");
+        for (int length = 1; length <= 26; length++) {
+            for (int i = 0; i < index.count(length); i++) {
+                assertEquals(i, index.indexOf(index.wordAt(length, i)));
+            }
+        }
+        assertFalse(index.contains("ZZZZZ"));
+        assertFalse(index.contains("pomme"), "La recherche attend des majuscules");
+        assertTrue(service.isInDictionary("pomme"));
+        assertFalse(service.isInDictionary("ABCDEFGHIJKLMNOPQRSTUVWXYZA"));
+    }
+
     // Teste le comportement getMinWordLength() de si le dictionnaire est vide.
     @Test
     void getMinWordLength_emptyDictionary_shouldThrow() throws Exception {
@@ -368,11 +640,17 @@ class WordleServiceTest {
         });
     }
 
-    // Méthode pour rendre fullDictionary vide
-    private void makeDictionaryEmpty(WordleService svc) throws Exception {
-        Field dictField = WordleService.class.getDeclaredField("fullDictionary");
-        dictField.setAccessible(true);
-        dictField.set(svc, new ArrayList<>());
+    // Méthode pour rendre le dictionnaire vide
+    private void makeDictionaryEmpty(WordleService svc) {
+        var dictionaries = svc.getDictionaries();
+        dictionaries.register(dictionaries.getDefaultName(), DictionaryIndex.of(new ArrayList<>()), null);
     }
 
+    // Service dont la roue d'expiration (et donc le temps des parties chrono) suit l'horloge donnée
+    private static WordleService timedService(AtomicLong clock) {
+        return WordleService.builder(new InMemoryStatsStore())
+                .flush(Duration.ofHours(1), 500)
+                .expiryWheel(new ExpiryWheel(Duration.ofMillis(100), clock::get, false))
+                .build();
+    }
 }
@@ -0,0 +1,105 @@
+package com.example.wordle;
+
+import com.example.wordle.model.CandidateSet;
+import com.example.wordle.model.GameStats;
+import com.example.wordle.model.WordleGame;
+import com.example.wordle.repository.GameStatsRepository;
+import com.example.wordle.service.FeedbackMatrixCache;
+import com.example.wordle.service.WordleService;
+import com.example.wordle.service.WordleSolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleSolverTest {
+
+    private WordleService service;
+    private WordleSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        GameStatsRepository mockRepo = Mockito.mock(GameStatsRepository.class);
+        Mockito.when(mockRepo.findAll()).thenReturn(List.of(new GameStats()));
+        service = new WordleService(mockRepo);
+        // Matrices de feedbacks limitées aux mots de 4 lettres pour garder des tests rapides
+        FeedbackMatrixCache matrixCache = new FeedbackMatrixCache(
+                service::getDictionary, 4, 64L << 20, null, ForkJoinPool.commonPool());
+        solver = new WordleSolver(service, matrixCache, 500, 1500, ForkJoinPool.commonPool());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    // Vérifie que les candidats sont filtrés après chaque essai et contiennent toujours la cible.
+    @Test
+    void candidates_shouldNarrowAndKeepTarget() {
+        WordleGame game = game("POMME", 10);
+        int all = solver.candidates(game).size();
+        assertEquals(service.getDictionary().count(5), all);
+
+        service.checkGuess(game, "CARTE");
+        CandidateSet afterOne = solver.candidates(game);
+        assertTrue(afterOne.size() < all);
+        assertEquals(1, afterOne.getAppliedGuesses());
+
+        service.checkGuess(game, "MOULE");
+        CandidateSet afterTwo = solver.candidates(game);
+        assertTrue(afterTwo.size() <= afterOne.size());
+        int targetIndex = service.getDictionary().indexOf("POMME");
+        assertTrue(afterTwo.getWords().get(targetIndex), "La cible doit rester candidate");
+    }
+
+    // Vérifie qu'un conseil est un mot candidat et apporte de l'information.
+    @Test
+    void hint_shouldSuggestCandidateWithPositiveEntropy() {
+        WordleGame game = game("POMME", 6);
+        WordleSolver.Hint hint = solver.hint(game);
+
+        assertEquals(5, hint.word().length());
+        assertTrue(service.isInDictionary(hint.word()));
+        assertTrue(hint.expectedBits() > 1.0);
+        assertEquals(service.getDictionary().count(5), hint.remainingCandidates());
+    }
+
+    // Vérifie que le joueur automatique trouve le mot en mode pratique.
+    @Test
+    void autoPlay_shouldSolveGames() {
+        for (String target : List.of("POMME", "LIVRE", "CHAISE", "ORDINATEUR")) {
+            WordleGame game = game(target, 10);
+            solver.autoPlay(game);
+            assertTrue(game.isWon(), "Mot non trouvé : " + target);
+        }
+    }
+
+    // Vérifie le temps de calcul d'un conseil sur le plus gros bucket (9 lettres).
+    @Test
+    void hint_nineLetters_shouldBeFast() {
+        WordleGame game = game("ABANDONNE", 6);
+        solver.hint(game); // préchauffage
+        game.setCandidates(null);
+
+        long start = System.nanoTime();
+        WordleSolver.Hint hint = solver.hint(game);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(service.getDictionary().count(9), hint.remainingCandidates());
+        assertTrue(elapsedMillis < 2_000, "Conseil en " + elapsedMillis + " ms");
+    }
+
+    private WordleGame game(String target, int attempts) {
+        assertTrue(service.isInDictionary(target), target);
+        WordleGame game = new WordleGame();
+        game.setTargetWord(target);
+        game.setWordLength(target.length());
+        game.setRemainingAttempts(attempts);
+        return game;
+    }
+}